@@ -0,0 +1,87 @@
+package com.factseekerbackend.global.common;
+
+import com.factseekerbackend.domain.analysis.controller.dto.response.fastapi.ClaimDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장된 claims JSON을 응답 바이트로 만드는 두 경로를 비교한다.
+ * <ul>
+ *     <li>parseThenWrite: 예전 parseClaims 경로 (List&lt;ClaimDto&gt;로 읽은 뒤 다시 직렬화)</li>
+ *     <li>rawPassThrough: 현재 경로 (RawJson으로 감싸 writeRawValue)</li>
+ * </ul>
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=ClaimsSerializationBenchmark}
+ * (결과는 build/results/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClaimsSerializationBenchmark {
+
+    private static final TypeReference<List<ClaimDto>> CLAIMS_TYPE = new TypeReference<>() {};
+
+    // 주장당 근거 5건: 2건이면 약 8KB, 8건이면 약 31KB (UTF-8)
+    @Param({"2", "8"})
+    public int claimCount;
+
+    private final ObjectMapper om = new ObjectMapper();
+    private String claimsJson;
+
+    @Setup
+    public void setUp() {
+        claimsJson = claims(claimCount, 5);
+    }
+
+    @Benchmark
+    public byte[] parseThenWrite() throws Exception {
+        List<ClaimDto> claims = om.readValue(claimsJson, CLAIMS_TYPE);
+        return om.writeValueAsBytes(new Body(claims));
+    }
+
+    @Benchmark
+    public byte[] rawPassThrough() throws Exception {
+        return om.writeValueAsBytes(new Body(RawJson.ofArray(claimsJson)));
+    }
+
+    // 응답 DTO 안에 claims 필드로 실리는 상황을 흉내 낸다
+    public record Body(Object claims) {
+    }
+
+    // FastAPI 실제 응답과 비슷한 길이의 한국어 본문으로 claims 배열을 만든다
+    static String claims(int claimCount, int evidencePerClaim) {
+        String justification = "기사는 해당 주장에서 언급한 수치와 일정, 관련 기관의 발표 내용을 구체적으로 다루고 있으며 "
+                + "발언 시점과 맥락이 영상 속 주장과 일치합니다. 다만 일부 세부 수치는 후속 보도에서 정정되었으므로 "
+                + "전체적으로는 주장을 뒷받침하지만 부분적으로 확인이 더 필요합니다.";
+        String snippet = "정부는 이날 국무회의를 열고 내년도 예산안을 확정했다고 밝혔다. 관계자는 \"재정 건전성과 "
+                + "민생 회복을 함께 고려했다\"며 국회 심의 과정에서 세부 항목이 조정될 수 있다고 설명했다.";
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int c = 0; c < claimCount; c++) {
+            if (c > 0) sb.append(',');
+            sb.append("{\"claim\":\"영상에서 언급된 ").append(c + 1)
+                    .append("번째 주장: 정부가 내년 예산을 전년 대비 크게 늘렸다\",")
+                    .append("\"result\":\"사실\",\"confidence_score\":").append(60 + c % 40)
+                    .append(",\"evidence\":[");
+            for (int e = 0; e < evidencePerClaim; e++) {
+                if (e > 0) sb.append(',');
+                sb.append("{\"url\":\"https://www.yna.co.kr/view/AKR20240101").append(c).append(e).append("\",")
+                        .append("\"relevance\":\"높음\",\"fact_check_result\":\"사실\",")
+                        .append("\"justification\":\"").append(justification).append("\",")
+                        .append("\"snippet\":\"").append(snippet.replace("\"", "\\\"")).append("\"}");
+            }
+            sb.append("]}");
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -1,37 +1,57 @@
 package com.factseekerbackend.domain.analysis.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.Executor;
 
 @Configuration
 public class RestClientConfig {
 
+    /**
+     * FastAPI 논블로킹 클라이언트. 응답을 기다리는 동안 스레드를 점유하지 않으므로
+     * 수백 건의 팩트체크가 소수의 이벤트 루프 스레드 위에서 동시에 진행될 수 있다.
+     * 요청별 데드라인/취소는 FastApiGateway에서 건다.
+     */
     @Bean
-    public RestClient fastApiClient(
-            @Value("${fastapi.base-url}") String baseUrl
+    public WebClient fastApiWebClient(
+            @Value("${fastapi.base-url}") String baseUrl,
+            @Value("${fastapi.http.protocols:HTTP11}") List<HttpProtocol> protocols,
+            @Value("${fastapi.http.max-connections:200}") int maxConnections,
+            @Value("${fastapi.http.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${fastapi.http.max-idle-time:60s}") Duration maxIdleTime
     ) {
-        // JDK HttpClient 기반 타임아웃
-        HttpClient httpClient = HttpClient.newBuilder()
-                .version(HttpClient.Version.HTTP_1_1)
-                .connectTimeout(Duration.ofSeconds(2))
+        // 커넥션 풀: HTTP/1.1은 호출당 커넥션 1개, h2c는 커넥션 하나에 여러 스트림을 다중화
+        ConnectionProvider provider = ConnectionProvider.builder("fastapi")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(Duration.ofSeconds(30))
                 .build();
 
-        JdkClientHttpRequestFactory rf = new JdkClientHttpRequestFactory(httpClient);
-        rf.setReadTimeout(Duration.ofSeconds(360));
+        reactor.netty.http.client.HttpClient httpClient = reactor.netty.http.client.HttpClient.create(provider)
+                .protocol(protocols.toArray(new HttpProtocol[0]))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 2000);
 
-        return RestClient.builder()
+        return WebClient.builder()
                 .baseUrl(baseUrl)
-                .requestFactory(rf)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                // 팩트체크 응답(claims + evidence)은 수백 KB까지 커질 수 있다
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
                 .build();
     }
 
@@ -61,6 +81,7 @@ public class RestClientConfig {
     @Bean(name = "factApiExecutor")
     public Executor factApiExecutor() {
         ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        // @Primary라서 한정자 없는 @Async(메일 발송 등)의 기본 실행기로도 쓰인다
         ex.setCorePoolSize(3);
         ex.setMaxPoolSize(3);
         ex.setQueueCapacity(20);
@@ -2,18 +2,19 @@ package com.factseekerbackend.domain.analysis.controller;
 
 import com.factseekerbackend.domain.analysis.controller.dto.request.VideoUrlRequest;
 import com.factseekerbackend.domain.analysis.controller.dto.response.*;
-import com.factseekerbackend.domain.analysis.controller.dto.response.fastapi.ClaimDto;
 import com.factseekerbackend.domain.analysis.entity.video.Top10VideoAnalysis;
 import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
+import com.factseekerbackend.domain.analysis.service.AnalysisRequestIdempotency;
+import com.factseekerbackend.domain.analysis.service.AnalysisProgressService;
 import com.factseekerbackend.domain.analysis.service.VideoAnalysisService;
+import com.factseekerbackend.domain.analysis.service.event.AnalysisStatusEvent;
 import com.factseekerbackend.domain.analysis.service.fastapi.FactCheckTriggerService;
 import com.factseekerbackend.domain.user.entity.CustomUserDetails;
 import com.factseekerbackend.global.common.ApiResponse;
+import com.factseekerbackend.global.common.RawJson;
 import com.factseekerbackend.global.exception.BusinessException;
 import com.factseekerbackend.global.exception.ErrorCode;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.factseekerbackend.global.util.YoutubeVideoKey;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,16 +24,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -48,8 +53,9 @@ public class VideoAnalysisController {
 
     private final FactCheckTriggerService factCheckTriggerService;
     private final VideoAnalysisService videoAnalysisService;
+    private final AnalysisProgressService analysisProgressService;
+    private final AnalysisRequestIdempotency requestIdempotency;
     private final Top10VideoAnalysisRepository top10VideoAnalysisRepository;
-    private final ObjectMapper om;
 
     @Operation(
             summary = "url로 요청한 비디오 분석(리포트) 결과 조회",
@@ -90,9 +96,38 @@ public class VideoAnalysisController {
             @Parameter(description = "비디오 분석 ID", example = "1")
             @PathVariable("videoAnalysisId") Long videoAnalysisId,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return userVideoAnalysisResponse(userDetails.getId(), videoAnalysisId);
+    }
+
+    @Operation(
+            summary = "url로 요청한 비디오 분석 결과 조회 (long-poll)",
+            description = "`wait`(예: 30s)를 지정하면 분석이 PENDING을 벗어나거나 대기 시간이 끝날 때까지 응답을 보류합니다. "
+                    + "응답 형식은 일반 조회와 같으며, 대기 시간이 끝나도 진행 중이면 202를 반환합니다."
+    )
+    @GetMapping(value = "/{videoAnalysisId}", params = "wait")
+    @PreAuthorize("isAuthenticated()")
+    public DeferredResult<ResponseEntity<ApiResponse<VideoAnalysisResponse>>> waitVideoAnalysis(
+            @Parameter(description = "비디오 분석 ID", example = "1")
+            @PathVariable("videoAnalysisId") Long videoAnalysisId,
+            @Parameter(description = "최대 대기 시간", example = "30s")
+            @RequestParam("wait") String wait,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long userId = userDetails.getId();
+        return analysisProgressService.awaitCompletion(
+                AnalysisStatusEvent.userKey(videoAnalysisId),
+                analysisProgressService.parseWait(wait),
+                () -> userVideoAnalysisResponse(userId, videoAnalysisId),
+                response -> response.getStatusCode() == HttpStatus.ACCEPTED);
+    }
+
+    private ResponseEntity<ApiResponse<VideoAnalysisResponse>> userVideoAnalysisResponse(Long userId, Long videoAnalysisId) {
         try {
-            Long userId = userDetails.getId();
-            VideoAnalysisResponse videoAnalysis = videoAnalysisService.getVideoAnalysis(userId, videoAnalysisId);
+            VideoAnalysisResponse videoAnalysis = videoAnalysisService.findVideoAnalysis(userId, videoAnalysisId).orElse(null);
+            if (videoAnalysis == null) {
+                log.warn("[API] 비디오 분석 결과를 찾을 수 없음: videoAnalysisId={}", videoAnalysisId);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("분석 결과를 찾을 수 없습니다."));
+            }
             if (videoAnalysis.getStatus() == AnalysisStatus.FAILED) {
                 return ResponseEntity.status(ErrorCode.INTERNAL_SERVER_ERROR.getStatus())
                         .body(ApiResponse.error("비디오 분석에 실패했습니다."));
@@ -104,10 +139,6 @@ public class VideoAnalysisController {
             return ResponseEntity.ok(ApiResponse.success("비디오 분석 결과를 성공적으로 조회했습니다.", videoAnalysis));
         } catch (BusinessException e) {
             throw e;
-        } catch (NullPointerException e) {
-            log.warn("[API] 비디오 분석 결과를 찾을 수 없음: {}", e.getMessage());
-            return ResponseEntity.status(org.springframework.http.HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("분석 결과를 찾을 수 없습니다."));
         } catch (Exception e) {
             log.error("[API] 비디오 분석 결과 조회 실패: {}", e.getMessage(), e);
             return ResponseEntity.status(ErrorCode.INTERNAL_SERVER_ERROR.getStatus())
@@ -115,9 +146,26 @@ public class VideoAnalysisController {
         }
     }
 
+    @Operation(
+            summary = "비디오 분석 진행 상황 구독(SSE)",
+            description = "분석 상태 전이를 `status` 이벤트로, 완료/실패 시 최종 결과를 `result` 이벤트로 전송한 뒤 스트림을 종료합니다. "
+                    + "폴링 대신 사용하며, 타임아웃으로 끊기면 다시 연결하면 됩니다."
+    )
+    @GetMapping(value = "/{videoAnalysisId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter streamVideoAnalysisEvents(
+            @Parameter(description = "비디오 분석 ID", example = "1")
+            @PathVariable("videoAnalysisId") Long videoAnalysisId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return analysisProgressService.streamUserAnalysis(userDetails.getId(), videoAnalysisId);
+    }
+
     @Operation(
             summary = "비디오 분석(리포트) 요청",
-            description = "유튜브 URL을 입력받아 비디오 분석을 요청합니다. 로그인 여부에 따라 다른 처리를 수행합니다."
+            description = "유튜브 URL을 입력받아 비디오 분석을 요청합니다. 로그인 여부에 따라 다른 처리를 수행합니다. "
+                    + "같은 요청(Idempotency-Key가 같거나, 헤더가 없으면 같은 사용자·같은 영상의 짧은 시간 내 요청)을 다시 보내면 "
+                    + "새로 분석하지 않고 처음 응답한 analysisId를 돌려주며 Idempotent-Replayed: true 헤더가 붙습니다. "
+                    + "처음 요청이 아직 처리 중이면 409를 반환합니다. 비로그인 요청은 클라이언트(IP·User-Agent)별로 구분됩니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -163,7 +211,10 @@ public class VideoAnalysisController {
                     )
             )
             @Valid @RequestBody VideoUrlRequest videoUrlRequest,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @Parameter(description = "재시도 시 같은 값을 보내면 처음 응답을 그대로 돌려받습니다 (최대 255자)", example = "3f1c9a52-7d7e-4b8e-9c1e-2a6f0f4d8b11")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletRequest request) {
         log.info("[API] 비디오 분석 요청: {}", videoUrlRequest.youtubeUrl());
         String youtubeUrl = videoUrlRequest.youtubeUrl();
         try {
@@ -176,14 +227,16 @@ public class VideoAnalysisController {
                 log.info("[API] 로그인 사용자 분석 요청 - User ID: {}", userId);
             }
 
-            Long analysisId = factCheckTriggerService.triggerAndReturnId(youtubeUrl, userId);
+            String anonymousClient = userId == null ? clientIdentity(request) : null;
+            AnalysisRequestIdempotency.Result result = requestIdempotency.execute(idempotencyKey, userId, anonymousClient, youtubeUrl,
+                    () -> factCheckTriggerService.triggerAndReturnId(youtubeUrl, userId));
             return CompletableFuture.completedFuture(
-                    ResponseEntity.ok(
-                            ApiResponse.success(
+                    ResponseEntity.ok()
+                            .header("Idempotent-Replayed", String.valueOf(result.replayed()))
+                            .body(ApiResponse.success(
                                     "비디오 분석이 성공적으로 요청되었습니다.",
-                                    new AnalysisStartResponse(analysisId, AnalysisStatus.PENDING)
-                            )
-                    )
+                                    new AnalysisStartResponse(result.analysisId(), AnalysisStatus.PENDING)
+                            ))
             );
 
         } catch (BusinessException e) {
@@ -197,6 +250,21 @@ public class VideoAnalysisController {
         }
     }
 
+    // 비로그인 요청의 중복 방지 범위: 클라이언트 IP + User-Agent
+    private String clientIdentity(HttpServletRequest request) {
+        String ip;
+        String xfHeader = request.getHeader("X-Forwarded-For");
+        String xrHeader = request.getHeader("X-Real-IP");
+        if (xfHeader != null && !xfHeader.isEmpty()) {
+            ip = xfHeader.split(",")[0].trim();
+        } else if (xrHeader != null && !xrHeader.isEmpty()) {
+            ip = xrHeader;
+        } else {
+            ip = request.getRemoteAddr();
+        }
+        return ip + "|" + request.getHeader("User-Agent");
+    }
+
 
     @Operation(
             summary = "Top10 특정 비디오 분석 조회",
@@ -245,6 +313,29 @@ public class VideoAnalysisController {
     public ResponseEntity<VideoAnalysisResponse> getTop10VideoAnalysis(
             @Parameter(description = "비디오 ID", example = "exampleVideoId")
             @PathVariable("videoId") String videoId) {
+        return top10VideoAnalysisResponse(YoutubeVideoKey.keyOrRaw(videoId));
+    }
+
+    @Operation(
+            summary = "Top10 비디오 분석 결과 조회 (long-poll)",
+            description = "`wait`(예: 30s)를 지정하면 분석이 PENDING을 벗어나거나 대기 시간이 끝날 때까지 응답을 보류합니다. "
+                    + "응답 형식은 일반 조회와 같습니다."
+    )
+    @GetMapping(value = "/top10/{videoId}", params = "wait")
+    public DeferredResult<ResponseEntity<VideoAnalysisResponse>> waitTop10VideoAnalysis(
+            @Parameter(description = "비디오 ID", example = "exampleVideoId")
+            @PathVariable("videoId") String videoId,
+            @Parameter(description = "최대 대기 시간", example = "30s")
+            @RequestParam("wait") String wait) {
+        String key = YoutubeVideoKey.keyOrRaw(videoId);
+        return analysisProgressService.awaitCompletion(
+                AnalysisStatusEvent.top10Key(key),
+                analysisProgressService.parseWait(wait),
+                () -> top10VideoAnalysisResponse(key),
+                response -> response.getBody() != null && response.getBody().getStatus() == AnalysisStatus.PENDING);
+    }
+
+    private ResponseEntity<VideoAnalysisResponse> top10VideoAnalysisResponse(String videoId) {
         return top10VideoAnalysisRepository.findById(videoId)
                 .map(analysis -> {
                     if (analysis.getStatus() == AnalysisStatus.FAILED) {
@@ -254,8 +345,8 @@ public class VideoAnalysisController {
                                         .status(AnalysisStatus.FAILED)
                                         .build());
                     }
-                    Object claims = parseClaims(analysis.getClaims());
-                    return ResponseEntity.ok(VideoAnalysisResponse.from(analysis, claims));
+                    // claims는 저장 시점에 검증된 JSON이므로 파싱 없이 그대로 응답에 싣는다
+                    return ResponseEntity.ok(VideoAnalysisResponse.from(analysis, RawJson.ofArray(analysis.getClaims())));
                 })
                 .orElseGet(() -> {
                     // DB에 없을 때 Redis Top10에도 없으면 404
@@ -303,7 +394,8 @@ public class VideoAnalysisController {
     @GetMapping("/top10/{videoId}/keywords")
     public ResponseEntity<ApiResponse<KeywordsResponse>> getTop10YoutubeKeywords(
             @Parameter(description = "비디오 ID", example = "exampleVideoId")
-            @PathVariable String videoId) {
+            @PathVariable("videoId") String rawVideoId) {
+        String videoId = YoutubeVideoKey.keyOrRaw(rawVideoId);
         try {
             Top10VideoAnalysis analysis = top10VideoAnalysisRepository.findById(videoId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.VIDEO_NOT_FOUND, ErrorCode.VIDEO_NOT_FOUND.getMessage()));
@@ -328,20 +420,6 @@ public class VideoAnalysisController {
         }
     }
 
-    private Object parseClaims(String claimsJson) {
-        if (claimsJson == null || claimsJson.isBlank()) {
-            return Collections.emptyList();
-        }
-        try {
-            return om.readValue(claimsJson, new TypeReference<List<ClaimDto>>() {
-            });
-        } catch (JsonProcessingException e) {
-            log.error("json 파싱에 실패했습니다.: {}", claimsJson, e);
-            return Collections.emptyList();
-        }
-    }
-
-
     @Operation(
             summary = "복수 비디오 진행률/상태 조회",
             description = "여러 비디오 ID를 쿼리파라미터로 전달하여 일괄 조회합니다. 파라미터 미제공 시 빈 집계를 반환합니다. 예: /top10/percents?videoIds=abc123&videoIds=def456"
@@ -3,17 +3,17 @@ package com.factseekerbackend.domain.analysis.controller.dto.request;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 public record VideoUrlRequest(
         @Schema(
-                description = "분석할 유튜브 전체 URL (watch/youtu.be/shorts 지원)",
+                description = "분석할 유튜브 영상 URL 또는 11자 영상 ID "
+                        + "(watch, m.youtube.com, youtu.be, shorts, live, embed, youtube-nocookie 지원. si 등 추적 파라미터는 무시)",
                 example = "https://www.youtube.com/watch?v=H-D2LfzB1wM"
         )
         @NotBlank
-        @Pattern(
-                regexp = "^https://(?:(?:www\\.)?youtube\\.com/watch\\?v=[A-Za-z0-9_-]{11}(?:[&?].*)?|youtu\\.be/[A-Za-z0-9_-]{11}(?:[?&].*)?|(?:www\\.)?youtube\\.com/shorts/[A-Za-z0-9_-]{11}(?:[?&].*)?)$"
-        )
+        @Size(max = 2048)
+        // 형식 검증은 YoutubeVideoKey가 담당한다 (지원하지 않는 형태면 400 INVALID_INPUT_VALUE)
         @JsonProperty("youtube_url") String youtubeUrl
 ) {
 }
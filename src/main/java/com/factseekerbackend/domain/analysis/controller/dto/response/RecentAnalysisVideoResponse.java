@@ -1,6 +1,6 @@
 package com.factseekerbackend.domain.analysis.controller.dto.response;
 
-import com.factseekerbackend.domain.analysis.entity.video.VideoAnalysis;
+import com.factseekerbackend.domain.analysis.repository.RecentAnalysisView;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -12,12 +12,12 @@ public class RecentAnalysisVideoResponse {
     private final String videoUrl;
     private final String videoTitle;
 
-    public static RecentAnalysisVideoResponse from(VideoAnalysis videoAnalysis, String title) {
+    public static RecentAnalysisVideoResponse from(RecentAnalysisView view) {
 
         return RecentAnalysisVideoResponse.builder()
-                .videoAnalysisId(videoAnalysis.getId())
-                .videoUrl(videoAnalysis.getVideoUrl())
-                .videoTitle(title)
+                .videoAnalysisId(view.getId())
+                .videoUrl(view.getVideoUrl())
+                .videoTitle(view.getVideoTitle() != null ? view.getVideoTitle() : "")
                 .build();
     }
 }
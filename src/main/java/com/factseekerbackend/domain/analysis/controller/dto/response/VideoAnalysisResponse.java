@@ -35,8 +35,8 @@ public class VideoAnalysisResponse {
     @Schema(description = "채널 유형 판별 근거", example = "주요 업로드가 시사 뉴스를 다룸")
     private final String channelTypeReason;
 
-    @Schema(description = "주장/검증 리스트. 내부적으로 List<ClaimDto>이나 저장값에 따라 문자열일 수 있습니다.", example = "[]")
-    private final Object claims; // Can be String (from DB) or List<ClaimDto> (from fresh analysis)
+    @Schema(description = "주장/검증 리스트 (List<ClaimDto> 형식의 JSON 배열)", example = "[]")
+    private final Object claims; // RawJson (저장된 claims JSON 그대로)
 
     @Schema(description = "쉼표로 구분된 키워드 문자열", example = "선거,경제,국회")
     private final String keywords;
@@ -44,7 +44,7 @@ public class VideoAnalysisResponse {
     @Schema(description = "3줄 요약", example = "이 동영상은 ~")
     private final String threeLineSummary;
 
-    @Schema(description = "생성 시각", example = "2025-01-01T12:34:56")
+    @Schema(description = "분석 결과 생성 시각 (최근 결과를 재사용한 경우 원본 분석 시각)", example = "2025-01-01T12:34:56")
     private final LocalDateTime createdAt;
 
     @Schema(description = "분석 상태", example = "COMPLETED")
@@ -61,7 +61,7 @@ public class VideoAnalysisResponse {
                 .claims(claims)
                 .keywords(videoAnalysis.getKeywords())
                 .threeLineSummary(videoAnalysis.getThreeLineSummary())
-                .createdAt(videoAnalysis.getCreatedAt())
+                .createdAt(videoAnalysis.getResultCreatedAt())
                 .status(videoAnalysis.getStatus())
                 .build();
     }
@@ -0,0 +1,44 @@
+package com.factseekerbackend.domain.analysis.entity.converter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * claims JSON 압축용 deflate 사전. 실제 저장된 claims에서 자주 반복되는 키/값/문구를 모았다.
+ * deflate는 사전 뒤쪽일수록 짧은 거리로 참조하므로 가장 흔한 조각을 끝에 둔다.
+ *
+ * <p>이미 저장된 데이터의 해제에 쓰이므로 한 번 배포된 버전의 내용은 절대 바꾸지 않는다.
+ * 사전을 개선할 때는 V2를 추가하고 {@link CompressedJson}에 새 포맷 바이트를 할당한다.
+ */
+final class ClaimsDictionary {
+
+    private ClaimsDictionary() {
+    }
+
+    static final byte[] V1 = String.join("",
+            // 언론사/URL
+            "https://www.chosun.com/politics/", "https://www.chosun.com/national/",
+            "https://www.khan.co.kr/article/", "http://www.hani.co.kr/arti/politics/",
+            "http://www.segye.com/content/html/", "https://www.donga.com/news/",
+            "https://www.joongang.co.kr/article/", "https://n.news.naver.com/article/",
+            "https://www.yna.co.kr/view/", "https://news.kbs.co.kr/news/",
+            "?utm_source=bigkinds&utm_medium=original&utm_campaign=news",
+            " [ⓒ 세계일보 & Segye.com, 무단전재 및 재배포 금지]",
+            // 판단 근거에 반복되는 문구
+            "기사는 ", "기사에서 ", "기사에는 ", "에 대한 구체적인 언급이나 설명은 포함되어 있지 않습니다.",
+            "라는 주장에 대한 구체적인 사실 설명은 포함되어 있지 않습니다.",
+            "에 대한 직접적인 언급은 없습니다.", "내용을 다루고 있지만, ", "내용을 명확히 언급하고 있으며, ",
+            "구체적인 사실을 설명하고 있습니다.", "주장을 뒷받침합니다.", "관련된 내용을 다루고 있으며, ",
+            "전 대통령", "국무총리", "장관", "대표", "의원", "국민의힘", "더불어민주당", "특검", "검찰", "대통령실",
+            "했다고 밝혔다. ", "것으로 알려졌다. ", "라고 말했다. ", "라고 덧붙였다. ", "고 주장했다. ",
+            // 값
+            "\"insufficient_evidence\"", "\"likely_false\"", "\"likely_true\"",
+            "\"relevance\":\"no\"", "\"relevance\":\"yes\"",
+            "\"fact_check_result\":\"아니오\"", "\"fact_check_result\":\"예\"",
+            // 구조 (가장 흔함)
+            "\"evidence\":[]}", "\"confidence_score\":0,",
+            "[{\"claim\":\"", "},{\"claim\":\"", "\",\"result\":\"", "\",\"confidence_score\":",
+            ",\"evidence\":[{\"url\":\"", "},{\"url\":\"", "\",\"relevance\":\"",
+            "\",\"fact_check_result\":\"", "\",\"justification\":\"", "\",\"snippet\":\"",
+            "**\"}"
+    ).getBytes(StandardCharsets.UTF_8);
+}
@@ -0,0 +1,192 @@
+package com.factseekerbackend.domain.analysis.entity.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * 압축 저장된 JSON 값. DB에서 읽을 때는 바이트만 들고 있다가 {@link #json()}을 처음 호출할 때 한 번만 해제하므로,
+ * 값을 쓰지 않는 조회(목록, 상태, 키워드 등)는 압축 해제 비용이 없다.
+ *
+ * <p>저장 포맷: [버전 1바이트][본문]
+ * <ul>
+ *   <li>0x00: 압축 없음 (UTF-8 그대로, 압축 이득이 없는 짧은 값)</li>
+ *   <li>0x01: deflate + 사전 v1 ({@link ClaimsDictionary#V1})</li>
+ * </ul>
+ * 사전을 바꿀 때는 새 버전 바이트를 추가하고 기존 버전의 해제 경로는 유지해야 한다.
+ */
+public final class CompressedJson {
+
+    static final byte FORMAT_RAW = 0x00;
+    static final byte FORMAT_DEFLATE_DICT_V1 = 0x01;
+
+    // 이보다 짧으면 압축하지 않는다 (헤더/사전 오버헤드가 더 큼)
+    private static final int MIN_COMPRESS_LENGTH = 64;
+
+    private final byte[] stored;
+    private volatile String json;
+
+    private CompressedJson(byte[] stored, String json) {
+        this.stored = stored;
+        this.json = json;
+    }
+
+    /** JSON 문자열을 저장 포맷으로 압축한다. */
+    public static CompressedJson compress(String json) {
+        if (json == null) return null;
+        byte[] utf8 = json.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length < MIN_COMPRESS_LENGTH) {
+            return new CompressedJson(withHeader(FORMAT_RAW, utf8, utf8.length), json);
+        }
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setDictionary(ClaimsDictionary.V1);
+            deflater.setInput(utf8);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(utf8.length / 3 + 16);
+            out.write(FORMAT_DEFLATE_DICT_V1);
+            byte[] buf = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buf);
+                out.write(buf, 0, n);
+            }
+            byte[] compressed = out.toByteArray();
+            if (compressed.length >= utf8.length + 1) {
+                return new CompressedJson(withHeader(FORMAT_RAW, utf8, utf8.length), json);
+            }
+            return new CompressedJson(compressed, json);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /** DB에서 읽은 저장 포맷 바이트를 감싼다. 압축 해제는 {@link #json()} 호출 시점으로 미룬다. */
+    public static CompressedJson fromStored(byte[] stored) {
+        if (stored == null || stored.length == 0) return null;
+        return new CompressedJson(stored, null);
+    }
+
+    /**
+     * JSON을 스트림으로 쓰면서 바로 압축한다. 원본 JSON 전체를 메모리에 만들지 않으므로 큰 값을 받아 저장할 때 쓴다.
+     * 다 쓴 뒤 {@link Encoder#finish()}로 값을 얻고, 실패 시에도 close()로 네이티브 압축 자원을 반납해야 한다.
+     */
+    public static Encoder encoder() {
+        return new Encoder();
+    }
+
+    public static final class Encoder extends OutputStream {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        private final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        private final DeflaterOutputStream stream;
+        private CompressedJson result;
+
+        private Encoder() {
+            deflater.setDictionary(ClaimsDictionary.V1);
+            out.write(FORMAT_DEFLATE_DICT_V1);
+            stream = new DeflaterOutputStream(out, deflater, 8192);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            stream.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            stream.write(b, off, len);
+        }
+
+        public CompressedJson finish() throws IOException {
+            if (result == null) {
+                stream.finish();
+                result = new CompressedJson(out.toByteArray(), null);
+                deflater.end();
+            }
+            return result;
+        }
+
+        @Override
+        public void close() {
+            deflater.end();
+        }
+    }
+
+    public byte[] stored() {
+        return stored;
+    }
+
+    public String json() {
+        String value = json;
+        if (value == null) {
+            value = decode(stored);
+            json = value;
+        }
+        return value;
+    }
+
+    private static String decode(byte[] stored) {
+        byte format = stored[0];
+        if (format == FORMAT_RAW) {
+            return new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+        }
+        if (format == FORMAT_DEFLATE_DICT_V1) {
+            return inflate(stored, ClaimsDictionary.V1);
+        }
+        throw new IllegalStateException("알 수 없는 claims 저장 포맷: " + format);
+    }
+
+    private static String inflate(byte[] stored, byte[] dictionary) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, 1, stored.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(stored.length * 4);
+            byte[] buf = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buf);
+                if (n == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(dictionary);
+                        continue;
+                    }
+                    // 스트림 끝(finished) 전에 입력이 바닥났으면 잘린/손상된 값이다. 부분 JSON을 돌려주지 않는다
+                    if (inflater.needsInput()) {
+                        throw new IllegalStateException("claims 압축 데이터가 잘렸습니다");
+                    }
+                }
+                out.write(buf, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("claims 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] withHeader(byte format, byte[] body, int length) {
+        byte[] out = new byte[length + 1];
+        out[0] = format;
+        System.arraycopy(body, 0, out, 1, length);
+        return out;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompressedJson other)) return false;
+        return Arrays.equals(stored, other.stored);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(stored);
+    }
+}
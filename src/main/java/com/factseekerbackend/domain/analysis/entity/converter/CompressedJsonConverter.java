@@ -0,0 +1,24 @@
+package com.factseekerbackend.domain.analysis.entity.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * {@link CompressedJson} ↔ 저장 포맷 바이트. 읽을 때 압축을 풀지 않는다.
+ * 값 객체가 불변이므로 Hibernate가 dirty check용 깊은 복사(변환 왕복)를 하지 않도록 @Immutable로 표시한다.
+ */
+@Immutable
+@Converter
+public class CompressedJsonConverter implements AttributeConverter<CompressedJson, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(CompressedJson attribute) {
+        return attribute == null ? null : attribute.stored();
+    }
+
+    @Override
+    public CompressedJson convertToEntityAttribute(byte[] dbData) {
+        return CompressedJson.fromStored(dbData);
+    }
+}
@@ -1,11 +1,16 @@
 package com.factseekerbackend.domain.analysis.entity.video;
 
 import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
+import com.factseekerbackend.domain.analysis.entity.converter.CompressedJson;
+import com.factseekerbackend.domain.analysis.entity.converter.CompressedJsonConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -27,6 +32,19 @@ public class Top10VideoAnalysis {
     @Column(name = "video_url", length = 255)
     private String videoUrl;
 
+    // 목록 화면용 영상 메타데이터. 분석 생성/순위 갱신 시점에 저장하고, 비어 있는 과거 행은 백필 작업이 채운다.
+    @Column(name = "video_title", length = 200)
+    private String videoTitle;
+
+    @Column(name = "channel_id", length = 64)
+    private String channelId;
+
+    @Column(name = "channel_title", length = 100)
+    private String channelTitle;
+
+    @Column(name = "thumbnail_url", length = 255)
+    private String thumbnailUrl;
+
     @Column(name = "total_confidence_score")
     private Integer totalConfidenceScore;
 
@@ -39,9 +57,14 @@ public class Top10VideoAnalysis {
     @Column(name = "channel_type_reason", columnDefinition = "TEXT")
     private String channelTypeReason;
 
+    // 레거시(압축 전) claims. 저장 시 claimsZ로 옮겨지고 비워진다 — 값은 getClaims()로 읽는다.
     @Column(name = "claims", columnDefinition = "JSON")
     private String claims;
 
+    @Convert(converter = CompressedJsonConverter.class)
+    @Column(name = "claims_z", columnDefinition = "LONGBLOB")
+    private CompressedJson claimsZ;
+
     @Column(name = "keywords", columnDefinition = "TEXT")
     private String keywords;
 
@@ -50,5 +73,20 @@ public class Top10VideoAnalysis {
 
     @Column(name = "created_at")
     private LocalDateTime createdAt;
-}
 
+    /** claims JSON. 아직 압축 컬럼으로 옮겨지지 않은 값이 있으면 그것을, 없으면 압축 저장분을 해제해서(최초 1회) 반환한다. */
+    public String getClaims() {
+        if (claims != null) return claims;
+        return claimsZ != null ? claimsZ.json() : null;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void compressClaims() {
+        // 빌더로 새 claims가 지정된 경우(또는 레거시 행) 압축 컬럼으로 옮긴다
+        if (claims != null) {
+            claimsZ = CompressedJson.compress(claims);
+            claims = null;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.factseekerbackend.domain.analysis.entity.video;
 
 import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
+import com.factseekerbackend.domain.analysis.entity.converter.CompressedJson;
+import com.factseekerbackend.domain.analysis.entity.converter.CompressedJsonConverter;
 import com.factseekerbackend.domain.analysis.service.fastapi.FactCheckResultService;
 import com.factseekerbackend.domain.history.entity.AnalysisHistory;
 import com.factseekerbackend.domain.user.entity.User;
@@ -11,6 +13,11 @@ import java.time.LocalDateTime;
 
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_video_analysis_video_status_created", columnList = "video_id, status, created_at"),
+        // 최근 분석 목록을 인덱스만으로 읽는다 (PK는 보조 인덱스에 포함됨)
+        @Index(name = "idx_video_analysis_user_created_cover", columnList = "user_id, created_at, video_url, video_title")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(toBuilder = true)
@@ -27,6 +34,19 @@ public class VideoAnalysis {
     @Column(name = "video_url", length = 255)
     private String videoUrl;
 
+    // 목록 화면용 영상 메타데이터. 분석 생성/순위 갱신 시점에 저장하고, 비어 있는 과거 행은 백필 작업이 채운다.
+    @Column(name = "video_title", length = 200)
+    private String videoTitle;
+
+    @Column(name = "channel_id", length = 64)
+    private String channelId;
+
+    @Column(name = "channel_title", length = 100)
+    private String channelTitle;
+
+    @Column(name = "thumbnail_url", length = 255)
+    private String thumbnailUrl;
+
     @Column(name = "total_confidence_score")
     private Integer totalConfidenceScore;
 
@@ -39,9 +59,14 @@ public class VideoAnalysis {
     @Column(name = "channel_type_reason", columnDefinition = "TEXT")
     private String channelTypeReason;
 
+    // 레거시(압축 전) claims. 저장 시 claimsZ로 옮겨지고 비워진다 — 값은 getClaims()로 읽는다.
     @Column(name = "claims", columnDefinition = "JSON")
     private String claims;
 
+    @Convert(converter = CompressedJsonConverter.class)
+    @Column(name = "claims_z", columnDefinition = "LONGBLOB")
+    private CompressedJson claimsZ;
+
     @Column(name = "keywords", columnDefinition = "TEXT")
     private String keywords;
 
@@ -51,6 +76,10 @@ public class VideoAnalysis {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // 다른 분석 결과를 재사용해 만든 행이면 원본 결과의 생성 시각 (created_at은 이 행을 만든 시각)
+    @Column(name = "result_created_at")
+    private LocalDateTime resultCreatedAt;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 50)
     private AnalysisStatus status;
@@ -58,4 +87,25 @@ public class VideoAnalysis {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
+
+    /** claims JSON. 아직 압축 컬럼으로 옮겨지지 않은 값이 있으면 그것을, 없으면 압축 저장분을 해제해서(최초 1회) 반환한다. */
+    public String getClaims() {
+        if (claims != null) return claims;
+        return claimsZ != null ? claimsZ.json() : null;
+    }
+
+    /** 분석 결과가 만들어진 시각. 재사용으로 복제된 행은 원본 결과의 시각을 돌려준다. */
+    public LocalDateTime getResultCreatedAt() {
+        return resultCreatedAt != null ? resultCreatedAt : createdAt;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void compressClaims() {
+        // 빌더로 새 claims가 지정된 경우(또는 레거시 행) 압축 컬럼으로 옮긴다
+        if (claims != null) {
+            claimsZ = CompressedJson.compress(claims);
+            claims = null;
+        }
+    }
 }
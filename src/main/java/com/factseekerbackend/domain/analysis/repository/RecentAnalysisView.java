@@ -0,0 +1,12 @@
+package com.factseekerbackend.domain.analysis.repository;
+
+/**
+ * 최근 분석 목록용 프로젝션. 필요한 컬럼만 조회하므로 커버링 인덱스(user_id, created_at, video_url, video_title)로 처리된다.
+ */
+public interface RecentAnalysisView {
+    Long getId();
+
+    String getVideoUrl();
+
+    String getVideoTitle();
+}
@@ -0,0 +1,123 @@
+package com.factseekerbackend.domain.analysis.repository;
+
+import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
+import com.factseekerbackend.domain.analysis.entity.video.Top10VideoAnalysis;
+import com.factseekerbackend.domain.analysis.service.fastapi.dto.FactCheckPayload;
+import com.factseekerbackend.domain.youtube.controller.dto.response.VideoDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Top10VideoAnalysis 일괄 쓰기. 행마다 findById + merge 하는 대신 INSERT ... ON DUPLICATE KEY UPDATE를 JDBC 배치로 보낸다.
+ * MySQL 드라이버의 rewriteBatchedStatements가 켜져 있으면 배치 전체가 다중 행 INSERT 한 번으로 전송되므로
+ * Top-N 크기가 커져도 왕복 횟수는 거의 늘지 않는다.
+ *
+ * <p>영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 이미 읽어 둔 엔티티에는 반영되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class Top10VideoAnalysisBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private String markPendingSql;
+    private String markFailedSql;
+    private String upsertCompletedSql;
+    private String updateMetadataSql;
+
+    @PostConstruct
+    void prepareStatements() {
+        // 테이블 이름은 네이밍 전략이 정하므로 Hibernate 매핑에서 가져온다
+        String table = ((AbstractEntityPersister) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(Top10VideoAnalysis.class))
+                .getTableName();
+
+        // 이미 PENDING인 행은 그대로 둔다 (created_at을 status보다 먼저 갱신해야 기존 status로 판단된다)
+        markPendingSql = "INSERT INTO " + table + " (video_id, status, created_at) VALUES (?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE "
+                + "created_at = IF(status = VALUES(status), created_at, VALUES(created_at)), "
+                + "status = VALUES(status)";
+
+        // 재분석에 실패해도 기존 COMPLETED 결과는 계속 보여준다 (created_at도 그대로 두어 다음 주기에 다시 시도된다)
+        markFailedSql = "INSERT INTO " + table + " (video_id, status, created_at) VALUES (?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE "
+                + "created_at = IF(status = '" + AnalysisStatus.COMPLETED.name() + "', created_at, VALUES(created_at)), "
+                + "status = IF(status = '" + AnalysisStatus.COMPLETED.name() + "', status, VALUES(status))";
+
+        upsertCompletedSql = "INSERT INTO " + table + " (video_id, status, video_url, total_confidence_score, summary, "
+                + "channel_type, channel_type_reason, claims, claims_z, keywords, three_line_summary, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, NULL, ?, ?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE status = VALUES(status), video_url = VALUES(video_url), "
+                + "total_confidence_score = VALUES(total_confidence_score), summary = VALUES(summary), "
+                + "channel_type = VALUES(channel_type), channel_type_reason = VALUES(channel_type_reason), "
+                + "claims = NULL, claims_z = VALUES(claims_z), keywords = VALUES(keywords), "
+                + "three_line_summary = VALUES(three_line_summary), created_at = VALUES(created_at)";
+
+        updateMetadataSql = "UPDATE " + table + " SET video_title = ?, channel_id = ?, channel_title = ?, thumbnail_url = ? "
+                + "WHERE video_id = ?";
+    }
+
+    /** 분석 대상 영상을 PENDING으로 등록한다. 없는 행은 새로 만든다. */
+    public void markPending(Collection<String> videoIds, LocalDateTime now) {
+        writeStatus(markPendingSql, videoIds, AnalysisStatus.PENDING, now);
+    }
+
+    /** 분석에 실패한 영상을 FAILED로 기록한다 (실패 시각을 created_at에 남긴다). 이미 COMPLETED인 행은 건드리지 않는다. */
+    public void markFailed(Collection<String> videoIds, LocalDateTime now) {
+        writeStatus(markFailedSql, videoIds, AnalysisStatus.FAILED, now);
+    }
+
+    /** 완료된 분석 결과를 한 번에 UPSERT한다. claims는 압축 컬럼에 저장하고 레거시 컬럼은 비운다. */
+    public void upsertCompleted(List<FactCheckPayload> results) {
+        if (results.isEmpty()) return;
+        jdbcTemplate.batchUpdate(upsertCompletedSql, results, results.size(), (ps, r) -> {
+            ps.setString(1, r.videoId());
+            ps.setString(2, AnalysisStatus.COMPLETED.name());
+            ps.setString(3, r.videoUrl());
+            if (r.videoTotalConfidenceScore() != null) ps.setInt(4, r.videoTotalConfidenceScore());
+            else ps.setNull(4, Types.INTEGER);
+            ps.setString(5, r.summary());
+            ps.setString(6, r.channelType());
+            ps.setString(7, r.channelTypeReason());
+            ps.setBytes(8, r.claims() != null ? r.claims().stored() : null);
+            ps.setString(9, r.keywords());
+            ps.setString(10, r.threeLineSummary());
+            ps.setTimestamp(11, r.createdAt() != null ? Timestamp.valueOf(r.createdAt()) : null);
+        });
+    }
+
+    /** 순위 스냅샷에 이미 있는 영상 메타데이터(제목/채널/썸네일)를 기존 행에 기록한다. */
+    public void updateVideoMetadata(Collection<VideoDto> videos) {
+        if (videos.isEmpty()) return;
+        jdbcTemplate.batchUpdate(updateMetadataSql, videos, videos.size(), (ps, v) -> {
+            ps.setString(1, v.videoTitle());
+            ps.setString(2, v.channelId());
+            ps.setString(3, v.channelTitle());
+            ps.setString(4, v.thumbnailUrl());
+            ps.setString(5, v.videoId());
+        });
+    }
+
+    private void writeStatus(String sql, Collection<String> videoIds, AnalysisStatus status, LocalDateTime now) {
+        if (videoIds.isEmpty()) return;
+        Timestamp at = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(sql, videoIds, videoIds.size(), (ps, videoId) -> {
+            ps.setString(1, videoId);
+            ps.setString(2, status.name());
+            ps.setTimestamp(3, at);
+        });
+    }
+}
@@ -1,11 +1,51 @@
 package com.factseekerbackend.domain.analysis.repository;
 
 
+import com.factseekerbackend.domain.analysis.entity.converter.CompressedJson;
 import com.factseekerbackend.domain.analysis.entity.video.Top10VideoAnalysis;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface Top10VideoAnalysisRepository extends JpaRepository<Top10VideoAnalysis, String> {
     List<Top10VideoAnalysis> findByVideoId(String videoId);
+
+    // 압축 컬럼으로 아직 옮겨지지 않은 레거시 claims 행
+    List<Top10VideoAnalysis> findByClaimsIsNotNullAndClaimsZIsNull(Pageable pageable);
+
+    // 마이그레이션: 압축 컬럼이 아직 비어 있을 때만 claims 두 컬럼만 바꾼다 (그 사이 저장된 행/다른 컬럼을 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE Top10VideoAnalysis t
+            SET t.claimsZ = :claimsZ, t.claims = NULL
+            WHERE t.videoId = :videoId AND t.claimsZ IS NULL
+            """)
+    int moveClaimsToCompressed(@Param("videoId") String videoId, @Param("claimsZ") CompressedJson claimsZ);
+
+    // 영상 메타데이터가 아직 채워지지 않은 행 중 분석이 끝난 것 (백필 대상). afterVideoId 커서로 채울 수 없는 행을 건너뛴다
+    @Query("""
+            SELECT t FROM Top10VideoAnalysis t
+            WHERE t.videoTitle IS NULL AND t.videoId > :afterVideoId
+              AND (t.status IS NULL OR t.status <> com.factseekerbackend.domain.analysis.entity.AnalysisStatus.PENDING)
+            ORDER BY t.videoId
+            """)
+    List<Top10VideoAnalysis> findMetadataBackfillTargets(@Param("afterVideoId") String afterVideoId, Pageable pageable);
+
+    // 백필: 아직 비어 있을 때만 메타데이터 컬럼만 채운다 (그 사이 저장된 값/다른 컬럼을 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE Top10VideoAnalysis t
+            SET t.videoTitle = :videoTitle, t.channelId = :channelId,
+                t.channelTitle = :channelTitle, t.thumbnailUrl = :thumbnailUrl
+            WHERE t.videoId = :videoId AND t.videoTitle IS NULL
+            """)
+    int fillVideoMetadata(@Param("videoId") String videoId, @Param("videoTitle") String videoTitle, @Param("channelId") String channelId,
+                          @Param("channelTitle") String channelTitle, @Param("thumbnailUrl") String thumbnailUrl);
 }
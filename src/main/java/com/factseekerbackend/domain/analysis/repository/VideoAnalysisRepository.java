@@ -1,14 +1,58 @@
 package com.factseekerbackend.domain.analysis.repository;
 
+import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
+import com.factseekerbackend.domain.analysis.entity.converter.CompressedJson;
 import com.factseekerbackend.domain.analysis.entity.video.VideoAnalysis;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface VideoAnalysisRepository extends JpaRepository<VideoAnalysis, Long> {
     Optional<VideoAnalysis> findByUserIdAndId(Long userId, Long videoAnalysisId);
 
-    List<VideoAnalysis> findTop3ByUserIdOrderByCreatedAtDesc(Long userId);
+    List<RecentAnalysisView> findTop3ByUserIdOrderByCreatedAtDesc(Long userId);
 
+    Optional<VideoAnalysis> findFirstByVideoIdAndStatusAndCreatedAtAfterOrderByCreatedAtDesc(
+            String videoId, AnalysisStatus status, LocalDateTime createdAt);
+
+    // 압축 컬럼으로 아직 옮겨지지 않은 레거시 claims 행
+    List<VideoAnalysis> findByClaimsIsNotNullAndClaimsZIsNull(Pageable pageable);
+
+    // 마이그레이션: 압축 컬럼이 아직 비어 있을 때만 claims 두 컬럼만 바꾼다 (그 사이 저장된 행/다른 컬럼을 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE VideoAnalysis va
+            SET va.claimsZ = :claimsZ, va.claims = NULL
+            WHERE va.id = :id AND va.claimsZ IS NULL
+            """)
+    int moveClaimsToCompressed(@Param("id") Long id, @Param("claimsZ") CompressedJson claimsZ);
+
+    // 영상 메타데이터가 아직 채워지지 않은 행 중 분석이 끝난 것 (백필 대상). afterId 커서로 채울 수 없는 행을 건너뛴다
+    @Query("""
+            SELECT va FROM VideoAnalysis va
+            WHERE va.videoTitle IS NULL AND va.id > :afterId
+              AND (va.status IS NULL OR va.status <> com.factseekerbackend.domain.analysis.entity.AnalysisStatus.PENDING)
+            ORDER BY va.id
+            """)
+    List<VideoAnalysis> findMetadataBackfillTargets(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 백필: 아직 비어 있을 때만 메타데이터 컬럼만 채운다 (그 사이 저장된 값/다른 컬럼을 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE VideoAnalysis va
+            SET va.videoTitle = :videoTitle, va.channelId = :channelId,
+                va.channelTitle = :channelTitle, va.thumbnailUrl = :thumbnailUrl
+            WHERE va.id = :id AND va.videoTitle IS NULL
+            """)
+    int fillVideoMetadata(@Param("id") Long id, @Param("videoTitle") String videoTitle, @Param("channelId") String channelId,
+                          @Param("channelTitle") String channelTitle, @Param("thumbnailUrl") String thumbnailUrl);
 }
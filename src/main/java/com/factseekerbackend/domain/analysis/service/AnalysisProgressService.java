@@ -0,0 +1,186 @@
+package com.factseekerbackend.domain.analysis.service;
+
+import com.factseekerbackend.domain.analysis.controller.dto.response.VideoAnalysisResponse;
+import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
+import com.factseekerbackend.domain.analysis.service.event.AnalysisEventHub;
+import com.factseekerbackend.domain.analysis.service.event.AnalysisStatusEvent;
+import com.factseekerbackend.global.exception.BusinessException;
+import com.factseekerbackend.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 분석 진행 상황을 폴링 없이 전달한다. 완료 알림은 {@link AnalysisEventHub}(Redis pub/sub)로 받는다.
+ * 알림을 받은 뒤의 DB 조회와 응답 전송은 Redis 리스너 스레드가 아닌 factCheckExecutor에서 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisProgressService {
+
+    private final VideoAnalysisService videoAnalysisService;
+    private final AnalysisEventHub eventHub;
+
+    @Qualifier("factCheckExecutor")
+    private final Executor factCheckExecutor;
+
+    @Value("${analysis.events.sse-timeout:5m}")
+    private Duration sseTimeout;
+
+    @Value("${analysis.events.max-wait:60s}")
+    private Duration maxWait;
+
+    public record StatusPayload(Long videoAnalysisId, String videoId, AnalysisStatus status) {}
+
+    /**
+     * 사용자 분석의 상태 전이(status)와 최종 결과(result)를 SSE로 보낸다.
+     * 이미 끝난 분석이면 바로 결과를 보내고 종료하며, 타임아웃 시 클라이언트는 재연결한다.
+     */
+    public SseEmitter streamUserAnalysis(Long userId, Long videoAnalysisId) {
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        AtomicBoolean finished = new AtomicBoolean(false);
+        String key = AnalysisStatusEvent.userKey(videoAnalysisId);
+
+        // 현재 상태를 읽기 전에 구독해야 그 사이의 완료 알림을 놓치지 않는다
+        Runnable unsubscribe = eventHub.subscribe(key, event -> {
+            if (event.status() == AnalysisStatus.PENDING || finished.get()) return;
+            offListener(key, () -> {
+                VideoAnalysisResponse result = load(userId, videoAnalysisId);
+                if (result != null && result.getStatus() != AnalysisStatus.PENDING) {
+                    finish(emitter, videoAnalysisId, result, finished);
+                }
+            });
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(() -> {
+            unsubscribe.run();
+            emitter.complete();
+        });
+        emitter.onError(e -> unsubscribe.run());
+
+        VideoAnalysisResponse current = load(userId, videoAnalysisId);
+        if (current == null) {
+            unsubscribe.run();
+            sendError(emitter, "분석 결과를 찾을 수 없습니다.");
+            return emitter;
+        }
+        if (current.getStatus() == AnalysisStatus.PENDING) {
+            send(emitter, "status", new StatusPayload(videoAnalysisId, current.getVideoId(), AnalysisStatus.PENDING));
+        } else {
+            finish(emitter, videoAnalysisId, current, finished);
+        }
+        return emitter;
+    }
+
+    /**
+     * long-poll 대기 시간 파라미터를 해석한다. 단위가 없으면 초로 보고, 최대 대기 시간으로 제한한다.
+     */
+    public Duration parseWait(String wait) {
+        Duration parsed;
+        try {
+            parsed = DurationStyle.detectAndParse(wait.trim(), ChronoUnit.SECONDS);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "wait 형식이 올바르지 않습니다. 예: 30s");
+        }
+        if (parsed.isNegative()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "wait는 0 이상이어야 합니다.");
+        }
+        return parsed.compareTo(maxWait) > 0 ? maxWait : parsed;
+    }
+
+    /**
+     * 결과가 PENDING을 벗어나거나 대기 시간이 끝날 때까지 요청을 DeferredResult로 보류한다.
+     * 보류 중에는 서블릿 스레드를 점유하지 않으며, 완료 시점은 DB 재조회 루프가 아닌 상태 알림으로 감지한다.
+     *
+     * @param key     구독 키 ({@link AnalysisStatusEvent#userKey} / {@link AnalysisStatusEvent#top10Key})
+     * @param loader  현재 응답을 만드는 함수 (최초, 알림 수신 시, 타임아웃 시 호출)
+     * @param pending 응답이 아직 진행 중인지 판단
+     */
+    public <T> DeferredResult<T> awaitCompletion(String key, Duration wait, Supplier<T> loader, Predicate<T> pending) {
+        DeferredResult<T> result = new DeferredResult<>(Math.max(1L, wait.toMillis()));
+
+        // 현재 상태를 읽기 전에 구독해야 그 사이의 완료 알림을 놓치지 않는다
+        Runnable unsubscribe = eventHub.subscribe(key, event -> {
+            if (event.status() == AnalysisStatus.PENDING || result.isSetOrExpired()) return;
+            offListener(key, () -> {
+                if (result.isSetOrExpired()) return;
+                T current = loader.get();
+                if (!pending.test(current)) {
+                    result.setResult(current);
+                }
+            });
+        });
+        result.onCompletion(unsubscribe);
+        // 대기 시간이 끝나면 그 시점의 상태(대개 202)를 그대로 응답
+        result.onTimeout(() -> result.setResult(loader.get()));
+        result.onError(e -> unsubscribe.run());
+
+        T initial = loader.get();
+        if (!pending.test(initial) || wait.isZero()) {
+            result.setResult(initial);
+        }
+        return result;
+    }
+
+    // 없거나 다른 사용자의 분석이면 null
+    private VideoAnalysisResponse load(Long userId, Long videoAnalysisId) {
+        return videoAnalysisService.findVideoAnalysis(userId, videoAnalysisId).orElse(null);
+    }
+
+    // 리스너 스레드는 모든 구독이 공유하므로 블로킹 작업(JPA 조회, 응답 쓰기)을 넘긴다.
+    // 실행기가 가득 차 알림을 놓쳐도 SSE 재연결이나 long-poll 타임아웃 응답이 최종 상태를 다시 읽는다
+    private void offListener(String key, Runnable task) {
+        try {
+            factCheckExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.warn("분석 상태 알림 처리 실패 key={}: {}", key, e.toString());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("분석 상태 알림 처리 거부됨 key={}", key);
+        }
+    }
+
+    private void finish(SseEmitter emitter, Long videoAnalysisId, VideoAnalysisResponse result, AtomicBoolean finished) {
+        if (!finished.compareAndSet(false, true)) return;
+        if (send(emitter, "status", new StatusPayload(videoAnalysisId, result.getVideoId(), result.getStatus()))
+                && send(emitter, "result", result)) {
+            emitter.complete();
+        }
+    }
+
+    private void sendError(SseEmitter emitter, String message) {
+        if (send(emitter, "error", message)) {
+            emitter.complete();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            log.debug("SSE 전송 실패 event={}: {}", name, e.toString());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.factseekerbackend.domain.analysis.service;
+
+import com.factseekerbackend.global.exception.BusinessException;
+import com.factseekerbackend.global.exception.ErrorCode;
+import com.factseekerbackend.global.util.YoutubeVideoKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * POST /api/analysis 중복 요청 방지. 재시도/더블클릭으로 같은 요청이 다시 오면
+ * DB나 FastAPI를 건드리지 않고 처음 응답한 analysisId를 그대로 돌려준다.
+ *
+ * <p>키는 요청자 범위로 나뉜다. 로그인 사용자는 사용자 ID, 비로그인 요청은 클라이언트 식별값(IP + User-Agent)의 해시로
+ * 구분하므로 서로 다른 비로그인 클라이언트가 같은 Idempotency-Key를 써도 섞이지 않는다.
+ * <ul>
+ *   <li>{@code Idempotency-Key} 헤더가 있으면 그 값 (key-ttl 동안 유지)</li>
+ *   <li>없으면 정규화된 영상 ID (첫 요청부터 default-window 동안 유지)</li>
+ * </ul>
+ * 첫 요청이 {@code SET NX}로 "처리 중" 기록을 잡고, 완료되면 analysisId로 바꿔 쓴다.
+ * 처리 중에 들어온 요청은 기다리지 않고 바로 409(ANALYSIS_REQUEST_IN_PROGRESS)로 응답한다 (요청 스레드를 붙잡지 않음).
+ * Redis 장애 시에는 중복 방지 없이 그대로 처리한다 (FastAPI 호출은 in-flight 레지스트리가 합친다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisRequestIdempotency {
+
+    private static final String KEY_PREFIX = "analysis:idempotency:";
+    private static final int MAX_CLIENT_KEY_LENGTH = 255;
+    private static final char SEPARATOR = '|';
+    private static final String PENDING = "pending:";
+
+    // 처리 중 기록이 아직 내 것일 때만 지운다 (실패한 요청은 바로 다시 시도할 수 있게)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    public record Result(Long analysisId, boolean replayed) {}
+
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+
+    @Value("${analysis.idempotency.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.idempotency.key-ttl:24h}")
+    private Duration keyTtl;
+
+    @Value("${analysis.idempotency.default-window:60s}")
+    private Duration defaultWindow;
+
+    // 처리 중 기록의 수명. 요청 처리 중 노드가 죽어도 이 시간 뒤에는 다시 요청할 수 있다
+    @Value("${analysis.idempotency.in-progress-ttl:30s}")
+    private Duration inProgressTtl;
+
+    /**
+     * 같은 요청의 첫 응답이 있으면 그 analysisId를, 없으면 action을 한 번만 실행해 기록하고 돌려준다.
+     *
+     * @param anonymousClient 비로그인 요청의 클라이언트 식별값 (userId가 있으면 쓰지 않음)
+     */
+    public Result execute(String clientKey, Long userId, String anonymousClient, String youtubeUrl, Supplier<Long> action) {
+        String videoId = YoutubeVideoKey.extractId(youtubeUrl);
+        if (!enabled || videoId == null) {
+            // 형식 오류는 action(트리거)이 INVALID_INPUT_VALUE로 응답한다
+            return new Result(action.get(), false);
+        }
+
+        boolean hasClientKey = clientKey != null && !clientKey.isBlank();
+        if (hasClientKey && clientKey.length() > MAX_CLIENT_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Idempotency-Key는 " + MAX_CLIENT_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        String owner = userId != null ? "u" + userId : "a" + DigestUtils.md5DigestAsHex(
+                String.valueOf(anonymousClient).getBytes(StandardCharsets.UTF_8));
+        String key = KEY_PREFIX + owner + (hasClientKey ? ":key:" + clientKey.strip() : ":video:" + videoId);
+        Duration ttl = hasClientKey ? keyTtl : defaultWindow;
+
+        String pending = videoId + SEPARATOR + PENDING + UUID.randomUUID();
+        // 처음 요청이 실패해 기록이 지워졌으면 한 번 더 첫 요청이 되어 본다
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Boolean acquired;
+            try {
+                acquired = redis.opsForValue().setIfAbsent(key, pending, inProgressTtl);
+            } catch (Exception e) {
+                log.warn("분석 요청 중복 방지 기록 실패, 그대로 처리 key={}: {}", key, e.toString());
+                return new Result(action.get(), false);
+            }
+            if (Boolean.TRUE.equals(acquired)) {
+                return new Result(runFirst(key, pending, videoId, ttl, action), false);
+            }
+            Long first = readFirst(key, videoId);
+            if (first != null) {
+                return new Result(first, true);
+            }
+        }
+        throw new BusinessException(ErrorCode.ANALYSIS_REQUEST_IN_PROGRESS);
+    }
+
+    private Long runFirst(String key, String pending, String videoId, Duration ttl, Supplier<Long> action) {
+        Long analysisId;
+        try {
+            analysisId = action.get();
+        } catch (RuntimeException e) {
+            release(key, pending);
+            throw e;
+        }
+        try {
+            redis.opsForValue().set(key, videoId + SEPARATOR + analysisId, ttl);
+        } catch (Exception e) {
+            log.warn("분석 요청 중복 방지 결과 기록 실패 key={}: {}", key, e.toString());
+        }
+        return analysisId;
+    }
+
+    // 처음 요청의 기록을 읽는다. 결과가 있으면 그 analysisId, 기록이 사라졌으면 null, 아직 처리 중이면 409
+    private Long readFirst(String key, String videoId) {
+        String prefix = videoId + SEPARATOR;
+        String record;
+        try {
+            record = redis.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("분석 요청 중복 방지 기록 조회 실패 key={}: {}", key, e.toString());
+            throw new BusinessException(ErrorCode.ANALYSIS_REQUEST_IN_PROGRESS);
+        }
+        if (record == null) return null;
+        if (!record.startsWith(prefix)) {
+            // 같은 Idempotency-Key로 다른 영상을 요청한 경우
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_MISMATCH);
+        }
+        if (record.startsWith(PENDING, prefix.length())) {
+            throw new BusinessException(ErrorCode.ANALYSIS_REQUEST_IN_PROGRESS);
+        }
+        log.info("중복 분석 요청, 처음 응답 재사용 key={} record={}", key, record);
+        return Long.valueOf(record.substring(prefix.length()));
+    }
+
+    private void release(String key, String pending) {
+        try {
+            redis.execute(RELEASE_SCRIPT, List.of(key), pending);
+        } catch (Exception e) {
+            log.debug("분석 요청 중복 방지 기록 해제 실패 key={}: {}", key, e.getMessage());
+        }
+    }
+}
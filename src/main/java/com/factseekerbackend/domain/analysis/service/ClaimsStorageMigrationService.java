@@ -0,0 +1,95 @@
+package com.factseekerbackend.domain.analysis.service;
+
+import com.factseekerbackend.domain.analysis.entity.converter.CompressedJson;
+import com.factseekerbackend.domain.analysis.entity.video.Top10VideoAnalysis;
+import com.factseekerbackend.domain.analysis.entity.video.VideoAnalysis;
+import com.factseekerbackend.domain.analysis.repository.Top10VideoAnalysisRepository;
+import com.factseekerbackend.domain.analysis.repository.VideoAnalysisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 레거시 claims(JSON 컬럼)를 압축 컬럼(claims_z)으로 조금씩 옮기는 백그라운드 마이그레이션.
+ * 새로 저장·수정되는 행은 엔티티 콜백에서 바로 압축되므로, 여기서는 그 외 오래된 행만 배치 단위로 처리한다.
+ *
+ * <p>Redis 리스를 잡은 노드 한 곳에서만 실행된다. 행 전체를 다시 저장하지 않고 claims 두 컬럼만,
+ * claims_z가 아직 비어 있는 행에만 쓰므로 그 사이 분석 결과가 저장된 행을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClaimsStorageMigrationService {
+
+    private static final String LEASE_KEY = "analysis:claims-storage:migration-lease";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final VideoAnalysisRepository videoAnalysisRepository;
+    private final Top10VideoAnalysisRepository top10VideoAnalysisRepository;
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+
+    @Value("${analysis.claims-storage.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.claims-storage.migration.batch-size:200}")
+    private int batchSize;
+
+    // 배치 1회(조회 + 압축 + 갱신)보다 길어야 한다
+    @Value("${analysis.claims-storage.migration.lease:5m}")
+    private Duration lease;
+
+    @Scheduled(fixedDelayString = "${analysis.claims-storage.migration.interval:60000}", initialDelay = 60000)
+    public void migrateBatch() {
+        if (!enabled) return;
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(LEASE_KEY, token, lease))) return;
+        } catch (Exception e) {
+            log.warn("[SCHEDULER] claims 압축 마이그레이션 리스 획득 실패, 이번 배치 건너뜀: {}", e.toString());
+            return;
+        }
+        try {
+            PageRequest page = PageRequest.of(0, Math.max(1, batchSize));
+
+            int users = 0;
+            for (VideoAnalysis va : videoAnalysisRepository.findByClaimsIsNotNullAndClaimsZIsNull(page)) {
+                users += videoAnalysisRepository.moveClaimsToCompressed(va.getId(), CompressedJson.compress(va.getClaims()));
+            }
+
+            int top10 = 0;
+            for (Top10VideoAnalysis va : top10VideoAnalysisRepository.findByClaimsIsNotNullAndClaimsZIsNull(page)) {
+                top10 += top10VideoAnalysisRepository.moveClaimsToCompressed(va.getVideoId(), CompressedJson.compress(va.getClaims()));
+            }
+
+            if (users > 0 || top10 > 0) {
+                log.info("[SCHEDULER] claims 압축 마이그레이션: 사용자 분석 {}건, Top10 분석 {}건", users, top10);
+            }
+        } catch (Exception e) {
+            log.error("[SCHEDULER] claims 압축 마이그레이션 실패: {}", e.getMessage());
+        } finally {
+            try {
+                redis.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), token);
+            } catch (Exception e) {
+                log.debug("[SCHEDULER] claims 압축 마이그레이션 리스 해제 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
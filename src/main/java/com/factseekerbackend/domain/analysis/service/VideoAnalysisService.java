@@ -1,28 +1,21 @@
 package com.factseekerbackend.domain.analysis.service;
 
 import com.factseekerbackend.domain.analysis.controller.dto.response.*;
-import com.factseekerbackend.domain.analysis.controller.dto.response.fastapi.ClaimDto;
 import com.factseekerbackend.domain.analysis.entity.video.Top10VideoAnalysis;
 import com.factseekerbackend.domain.analysis.entity.video.VideoAnalysis;
 import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
 import com.factseekerbackend.domain.analysis.repository.Top10VideoAnalysisRepository;
 import com.factseekerbackend.domain.analysis.repository.VideoAnalysisRepository;
-import com.factseekerbackend.domain.youtube.controller.dto.response.VideoDto;
-import com.factseekerbackend.domain.youtube.service.YoutubeService;
+import com.factseekerbackend.domain.youtube.service.PopularRankingCache;
 import com.factseekerbackend.global.exception.BusinessException;
 import com.factseekerbackend.global.exception.ErrorCode;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.factseekerbackend.global.common.RawJson;
+import com.factseekerbackend.global.util.YoutubeVideoKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisCallback;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -34,30 +27,18 @@ public class VideoAnalysisService {
 
     private final VideoAnalysisRepository repository;
     private final Top10VideoAnalysisRepository top10VideoAnalysisRepository;
-    @Qualifier("cacheRedisTemplate")
-    private final RedisTemplate<String, Object> cacheRedis;
-    private final ObjectMapper om;
-    private final YoutubeService youtubeService;
+    private final PopularRankingCache popularRankingCache;
 
     public VideoAnalysisResponse getVideoAnalysis(Long userId, Long videoAnalysisId) {
-        VideoAnalysis videoAnalysis = repository.findByUserIdAndId(userId, videoAnalysisId)
+        return findVideoAnalysis(userId, videoAnalysisId)
                 .orElseThrow(() -> new NullPointerException("해당 비디오를 찾을 수 없습니다."));
-
-        Object claims = parseClaims(videoAnalysis.getClaims());
-
-        return VideoAnalysisResponse.from(videoAnalysis, claims);
     }
 
-    private Object parseClaims(String claimsJson) {
-        if (claimsJson == null || claimsJson.isBlank()) {
-            return Collections.emptyList();
-        }
-        try {
-            return om.readValue(claimsJson, new TypeReference<List<ClaimDto>>() {});
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse claims JSON: {}", claimsJson, e);
-            return Collections.emptyList();
-        }
+    /** 본인의 분석 결과. 없거나 다른 사용자의 분석이면 empty. */
+    public Optional<VideoAnalysisResponse> findVideoAnalysis(Long userId, Long videoAnalysisId) {
+        // claims는 저장 시점에 검증된 JSON이므로 파싱 없이 그대로 응답에 싣는다
+        return repository.findByUserIdAndId(userId, videoAnalysisId)
+                .map(videoAnalysis -> VideoAnalysisResponse.from(videoAnalysis, RawJson.ofArray(videoAnalysis.getClaims())));
     }
 
     public KeywordsResponse getTop10YoutubeKeywords(String videoId) {
@@ -71,23 +52,23 @@ public class VideoAnalysisService {
 
     public boolean isInTop10(String videoId) {
         if (videoId == null || videoId.isBlank()) return false;
-        List<String> ids = fetchTopNVideoIdsPipeline(10);
-        return ids.contains(videoId);
+        return popularRankingCache.isInTopN(videoId, 10);
     }
 
-    public PercentStatusData getTop10VideosPercent(List<String> request) {
+    public PercentStatusData getTop10VideosPercent(List<String> rawIds) {
 
-        if (request == null || request.isEmpty()) {
+        if (rawIds == null || rawIds.isEmpty()) {
             return PercentStatusData.builder().requested(0).completed(0).pending(0).failed(0).notFound(0).results(Collections.emptyList()).build();
         }
+        List<String> request = rawIds.stream().map(YoutubeVideoKey::keyOrRaw).toList();
 
         // 1. Bulk fetch all existing analysis records from DB in one query
         Map<String, Top10VideoAnalysis> analysisMap = top10VideoAnalysisRepository.findAllById(request)
                 .stream()
                 .collect(Collectors.toMap(Top10VideoAnalysis::getVideoId, analysis -> analysis));
 
-        // 2. Fetch valid Top 10 IDs from Redis
-        Set<String> validTop10Ids = new HashSet<>(fetchTopNVideoIdsPipeline(10));
+        // 2. Valid Top 10 IDs from the in-process ranking cache (no network I/O)
+        Set<String> validTop10Ids = popularRankingCache.topIds(10);
 
         // 3. Process each ID with all data available locally
         List<PercentStatusResponse> results = new ArrayList<>();
@@ -140,47 +121,10 @@ public class VideoAnalysisService {
                 .build();
     }
 
-    private List<String> fetchTopNVideoIdsPipeline(int n) {
-        List<Object> raw = cacheRedis.executePipelined((RedisCallback<Object>) connection -> {
-            for (int rank = 1; rank <= n; rank++) {
-                byte[] key = cacheRedis.getStringSerializer().serialize(rankKey(rank));
-                byte[] field = cacheRedis.getStringSerializer().serialize("videoId");
-                connection.hashCommands().hGet(key, field);
-            }
-            return null;
-        });
-
-        List<String> out = new ArrayList<>(n);
-        for (Object o : raw) {
-            if (o instanceof byte[]) {
-                String id = cacheRedis.getStringSerializer().deserialize((byte[]) o);
-                if (id != null && !id.isBlank()) out.add(id);
-            } else if (o instanceof String s) {
-                if (!s.isBlank()) out.add(s);
-            }
-        }
-        return new ArrayList<>(new LinkedHashSet<>(out));
-    }
-
-    private String rankKey(int rank) {
-        return "popular:politics:KR:rank:" + rank;
-    }
-
     public List<RecentAnalysisVideoResponse> getThreeRecentVideos(Long userId) {
+        // 제목은 분석 행에 저장되어 있으므로 YouTube 호출 없이 DB(커버링 인덱스)만 읽는다
         return repository.findTop3ByUserIdOrderByCreatedAtDesc(userId).stream()
-                .map(videoAnalysis -> {
-                    try {
-                        VideoDto videoDto = youtubeService.getVideoById(videoAnalysis.getVideoId());
-                        String title = (videoDto != null && videoDto.videoTitle() != null) ? videoDto.videoTitle() : "";
-                        return RecentAnalysisVideoResponse.from(videoAnalysis, title);
-                    } catch (IOException e) {
-                        // 메인 안정성: 개별 실패는 스킵하고 가능한 항목만 반환
-                        log.warn("유튜브 메타데이터 조회 실패, 해당 항목 건너뜀. videoId={}, analysisId={}",
-                                videoAnalysis.getVideoId(), videoAnalysis.getId(), e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
+                .map(RecentAnalysisVideoResponse::from)
                 .toList();
     }
 }
@@ -0,0 +1,146 @@
+package com.factseekerbackend.domain.analysis.service;
+
+import com.factseekerbackend.domain.analysis.entity.video.Top10VideoAnalysis;
+import com.factseekerbackend.domain.analysis.entity.video.VideoAnalysis;
+import com.factseekerbackend.domain.analysis.repository.Top10VideoAnalysisRepository;
+import com.factseekerbackend.domain.analysis.repository.VideoAnalysisRepository;
+import com.factseekerbackend.domain.youtube.controller.dto.response.VideoDto;
+import com.factseekerbackend.domain.youtube.service.YoutubeService;
+import com.factseekerbackend.global.util.YoutubeVideoKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 영상 메타데이터(제목/채널/썸네일)가 비어 있는 과거 분석 행을 조금씩 채우는 백그라운드 작업.
+ * 한 배치의 영상 ID는 메타데이터 캐시를 거쳐 videos.list 한 번(최대 50개)으로 조회한다.
+ *
+ * <p>Redis 리스를 잡은 노드 한 곳에서만 실행되며, YouTube 호출은 트랜잭션 밖에서 한다.
+ * 쓰기는 메타데이터 컬럼만, 아직 비어 있는 행에만 한다. PENDING 행은 분석 완료 시 저장되므로 건너뛴다.
+ * 삭제/비공개 영상은 빈 제목으로 기록해 다시 조회하지 않고, 영상 ID로 정규화할 수 없는 행은 로그만 남기고 비워 둔다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoMetadataBackfillService {
+
+    private static final int MAX_IDS_PER_LOOKUP = 50;
+    private static final String LEASE_KEY = "analysis:video-metadata:backfill-lease";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final VideoAnalysisRepository videoAnalysisRepository;
+    private final Top10VideoAnalysisRepository top10VideoAnalysisRepository;
+    private final YoutubeService youtubeService;
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+
+    @Value("${analysis.video-metadata.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.video-metadata.backfill.batch-size:50}")
+    private int batchSize;
+
+    // 배치 1회(조회 + videos.list + 갱신)보다 길어야 한다
+    @Value("${analysis.video-metadata.backfill.lease:5m}")
+    private Duration lease;
+
+    // 채울 수 없는 행(정규화 불가 ID)을 다시 읽지 않도록 테이블별로 앞으로만 진행한다. 끝에 닿으면 처음부터 다시 훑는다
+    private long userCursor = 0L;
+    private String top10Cursor = "";
+
+    @Scheduled(fixedDelayString = "${analysis.video-metadata.backfill.interval:60000}", initialDelay = 90000)
+    public void backfillBatch() {
+        if (!enabled) return;
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(LEASE_KEY, token, lease))) return;
+        } catch (Exception e) {
+            log.warn("[SCHEDULER] 영상 메타데이터 백필 리스 획득 실패, 이번 배치 건너뜀: {}", e.toString());
+            return;
+        }
+        try {
+            runBatch();
+        } catch (Exception e) {
+            // YouTube/쿼터 오류 시 이번 배치는 건너뛰고 다음 주기에 다시 시도한다
+            log.error("[SCHEDULER] 영상 메타데이터 백필 실패: {}", e.getMessage());
+        } finally {
+            try {
+                redis.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), token);
+            } catch (Exception e) {
+                log.debug("[SCHEDULER] 영상 메타데이터 백필 리스 해제 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void runBatch() throws IOException {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(batchSize, MAX_IDS_PER_LOOKUP)));
+        List<VideoAnalysis> users = videoAnalysisRepository.findMetadataBackfillTargets(userCursor, page);
+        List<Top10VideoAnalysis> top10 = top10VideoAnalysisRepository.findMetadataBackfillTargets(top10Cursor, page);
+        userCursor = users.isEmpty() ? 0L : users.get(users.size() - 1).getId();
+        top10Cursor = top10.isEmpty() ? "" : top10.get(top10.size() - 1).getVideoId();
+        if (users.isEmpty() && top10.isEmpty()) return;
+
+        Set<String> videoIds = new LinkedHashSet<>();
+        users.forEach(va -> addVideoId(videoIds, va.getVideoId()));
+        top10.forEach(va -> addVideoId(videoIds, va.getVideoId()));
+        if (videoIds.isEmpty()) return;
+
+        // 트랜잭션 밖에서 조회: YouTube 응답을 기다리는 동안 DB 커넥션/행을 잡지 않는다
+        Map<String, VideoDto> videos = youtubeService.getVideosByIds(videoIds);
+
+        int filled = 0;
+        for (VideoAnalysis va : users) {
+            String videoId = YoutubeVideoKey.extractId(va.getVideoId());
+            if (videoId == null) continue;
+            VideoDto v = videos.get(videoId);
+            filled += videoAnalysisRepository.fillVideoMetadata(va.getId(),
+                    v != null ? v.videoTitle() : "",
+                    v != null ? v.channelId() : null,
+                    v != null ? v.channelTitle() : null,
+                    v != null ? v.thumbnailUrl() : null);
+        }
+        for (Top10VideoAnalysis va : top10) {
+            String videoId = YoutubeVideoKey.extractId(va.getVideoId());
+            if (videoId == null) continue;
+            VideoDto v = videos.get(videoId);
+            filled += top10VideoAnalysisRepository.fillVideoMetadata(va.getVideoId(),
+                    v != null ? v.videoTitle() : "",
+                    v != null ? v.channelId() : null,
+                    v != null ? v.channelTitle() : null,
+                    v != null ? v.thumbnailUrl() : null);
+        }
+
+        log.info("[SCHEDULER] 영상 메타데이터 백필: 사용자 분석 {}건, Top10 분석 {}건 중 {}건 갱신 (영상 {}개 중 {}개 조회됨)",
+                users.size(), top10.size(), filled, videoIds.size(), videos.size());
+    }
+
+    private void addVideoId(Set<String> videoIds, String stored) {
+        String videoId = YoutubeVideoKey.extractId(stored);
+        if (videoId == null) {
+            log.warn("[SCHEDULER] 영상 메타데이터 백필: 영상 ID로 정규화할 수 없어 건너뜀 videoId={}", stored);
+            return;
+        }
+        videoIds.add(videoId);
+    }
+}
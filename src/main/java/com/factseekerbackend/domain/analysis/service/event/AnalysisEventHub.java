@@ -0,0 +1,71 @@
+package com.factseekerbackend.domain.analysis.service.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Redis 채널(analysis:events)을 한 번만 구독하고, 노드 내 대기자(SSE 연결 등)에게 키별로 알림을 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisEventHub implements MessageListener {
+
+    @Qualifier("cacheRedisMessageListenerContainer")
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper om;
+
+    // 구독 키(user:{id} / top10:{videoId}) → 노드 내 대기자
+    private final ConcurrentHashMap<String, Set<Consumer<AnalysisStatusEvent>>> subscribers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void register() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(AnalysisEventPublisher.CHANNEL));
+    }
+
+    /**
+     * 키에 대한 알림을 구독한다.
+     *
+     * @return 구독 해제용 Runnable
+     */
+    public Runnable subscribe(String key, Consumer<AnalysisStatusEvent> listener) {
+        subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(listener);
+        return () -> subscribers.computeIfPresent(key, (k, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        AnalysisStatusEvent event;
+        try {
+            event = om.readValue(message.getBody(), AnalysisStatusEvent.class);
+        } catch (Exception e) {
+            log.warn("분석 상태 알림 파싱 실패: {}", e.toString());
+            return;
+        }
+
+        Set<Consumer<AnalysisStatusEvent>> listeners = subscribers.get(event.key());
+        if (listeners == null) return;
+        for (Consumer<AnalysisStatusEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.warn("분석 상태 알림 전달 실패 key={}: {}", event.key(), e.toString());
+            }
+        }
+    }
+}
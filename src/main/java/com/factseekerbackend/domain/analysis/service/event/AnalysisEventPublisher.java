@@ -0,0 +1,58 @@
+package com.factseekerbackend.domain.analysis.service.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 분석 상태 전이를 Redis pub/sub 채널로 발행한다.
+ * 구독자는 알림을 받은 뒤 DB를 다시 읽으므로, 트랜잭션 안에서 호출되면 커밋 이후에 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisEventPublisher {
+
+    public static final String CHANNEL = "analysis:events";
+
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+    private final ObjectMapper om;
+
+    public void publish(AnalysisStatusEvent event) {
+        publishAll(List.of(event));
+    }
+
+    public void publishAll(List<AnalysisStatusEvent> events) {
+        if (events == null || events.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(events);
+                }
+            });
+            return;
+        }
+        send(events);
+    }
+
+    private void send(List<AnalysisStatusEvent> events) {
+        for (AnalysisStatusEvent event : events) {
+            try {
+                redis.convertAndSend(CHANNEL, om.writeValueAsString(event));
+            } catch (Exception e) {
+                // 알림 실패는 결과 저장에 영향을 주지 않는다. 구독자는 타임아웃 후 DB 상태로 복구한다.
+                log.warn("분석 상태 알림 발행 실패 key={}: {}", event.key(), e.toString());
+            }
+        }
+    }
+}
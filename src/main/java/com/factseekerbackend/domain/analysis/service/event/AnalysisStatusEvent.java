@@ -0,0 +1,37 @@
+package com.factseekerbackend.domain.analysis.service.event;
+
+import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
+
+/**
+ * 분석 상태 전이 알림. 사용자 분석은 videoAnalysisId, Top10 분석은 videoId로 구독 대상을 구분한다.
+ */
+public record AnalysisStatusEvent(
+        Kind kind,
+        Long videoAnalysisId,
+        String videoId,
+        AnalysisStatus status
+) {
+
+    public enum Kind { USER, TOP10 }
+
+    public static AnalysisStatusEvent user(Long videoAnalysisId, String videoId, AnalysisStatus status) {
+        return new AnalysisStatusEvent(Kind.USER, videoAnalysisId, videoId, status);
+    }
+
+    public static AnalysisStatusEvent top10(String videoId, AnalysisStatus status) {
+        return new AnalysisStatusEvent(Kind.TOP10, null, videoId, status);
+    }
+
+    /** 구독 키: user:{videoAnalysisId} 또는 top10:{videoId} */
+    public String key() {
+        return kind == Kind.USER ? userKey(videoAnalysisId) : top10Key(videoId);
+    }
+
+    public static String userKey(Long videoAnalysisId) {
+        return "user:" + videoAnalysisId;
+    }
+
+    public static String top10Key(String videoId) {
+        return "top10:" + videoId;
+    }
+}
@@ -0,0 +1,178 @@
+package com.factseekerbackend.domain.analysis.service.fastapi;
+
+import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
+import com.factseekerbackend.domain.analysis.entity.converter.CompressedJson;
+import com.factseekerbackend.domain.analysis.entity.video.Top10VideoAnalysis;
+import com.factseekerbackend.domain.analysis.entity.video.VideoAnalysis;
+import com.factseekerbackend.domain.analysis.repository.Top10VideoAnalysisRepository;
+import com.factseekerbackend.domain.analysis.repository.VideoAnalysisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 같은 영상에 대한 최근 COMPLETED 분석 결과(사용자 분석 + Top10 분석)를 찾아 재사용한다.
+ * Redis 인덱스(analysis:latest:{videoId})로 출처를 먼저 찾고, 없으면 두 테이블을 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnalysisResultReuseService {
+
+    private final VideoAnalysisRepository videoAnalysisRepository;
+    private final Top10VideoAnalysisRepository top10VideoAnalysisRepository;
+
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+
+    @Value("${analysis.reuse.max-age:6h}")
+    private Duration maxAge;
+
+    private static final String INDEX_PREFIX = "analysis:latest:";
+    private static final String TOP10_SOURCE = "top10";
+    private static final String USER_SOURCE_PREFIX = "user:";
+
+    /**
+     * 재사용 가능한 분석 결과 스냅샷. createdAt은 원본 분석 결과의 시각이며, 복제 행에는 result_created_at으로 남긴다.
+     * claims는 압축 저장분을 그대로 들고 있다가 복제 레코드에 공유하므로 해제/재압축하지 않는다.
+     */
+    public record ReusableAnalysis(
+            Integer totalConfidenceScore,
+            String summary,
+            String channelType,
+            String channelTypeReason,
+            CompressedJson claims,
+            String keywords,
+            String threeLineSummary,
+            LocalDateTime createdAt
+    ) {
+        static ReusableAnalysis from(VideoAnalysis va) {
+            return new ReusableAnalysis(va.getTotalConfidenceScore(), va.getSummary(), va.getChannelType(),
+                    va.getChannelTypeReason(), storedClaims(va.getClaimsZ(), va::getClaims), va.getKeywords(), va.getThreeLineSummary(),
+                    va.getResultCreatedAt());
+        }
+
+        static ReusableAnalysis from(Top10VideoAnalysis va) {
+            return new ReusableAnalysis(va.getTotalConfidenceScore(), va.getSummary(), va.getChannelType(),
+                    va.getChannelTypeReason(), storedClaims(va.getClaimsZ(), va::getClaims), va.getKeywords(), va.getThreeLineSummary(),
+                    va.getCreatedAt());
+        }
+
+        // 아직 압축 컬럼으로 옮겨지지 않은 레거시 행만 여기서 한 번 압축한다
+        private static CompressedJson storedClaims(CompressedJson claimsZ, Supplier<String> legacyClaims) {
+            return claimsZ != null ? claimsZ : CompressedJson.compress(legacyClaims.get());
+        }
+
+        public VideoAnalysis.VideoAnalysisBuilder applyTo(VideoAnalysis.VideoAnalysisBuilder builder) {
+            return builder
+                    .totalConfidenceScore(totalConfidenceScore)
+                    .summary(summary)
+                    .channelType(channelType)
+                    .channelTypeReason(channelTypeReason)
+                    .claimsZ(claims)
+                    .keywords(keywords)
+                    .threeLineSummary(threeLineSummary)
+                    // created_at은 최근 분석 목록 정렬 기준이므로 이 행을 만든 시각으로 둔다
+                    .createdAt(LocalDateTime.now())
+                    .resultCreatedAt(createdAt)
+                    .status(AnalysisStatus.COMPLETED);
+        }
+    }
+
+    public Optional<ReusableAnalysis> findReusable(String videoId) {
+        if (videoId == null || videoId.isBlank()) return Optional.empty();
+
+        Optional<ReusableAnalysis> indexed = findByIndex(videoId);
+        if (indexed.isPresent()) return indexed;
+
+        LocalDateTime threshold = LocalDateTime.now().minus(maxAge);
+
+        Optional<Top10VideoAnalysis> top10 = top10VideoAnalysisRepository.findById(videoId)
+                .filter(this::isReusable);
+        Optional<VideoAnalysis> user = videoAnalysisRepository
+                .findFirstByVideoIdAndStatusAndCreatedAtAfterOrderByCreatedAtDesc(videoId, AnalysisStatus.COMPLETED, threshold)
+                // 재사용으로 만든 행은 created_at이 최근이어도 원본 결과가 오래됐을 수 있다
+                .filter(this::isReusable);
+
+        if (top10.isEmpty() && user.isEmpty()) return Optional.empty();
+
+        // 두 출처 중 가장 최근 결과를 사용하고 인덱스를 채워 둔다
+        if (user.isPresent() && (top10.isEmpty() || user.get().getResultCreatedAt().isAfter(top10.get().getCreatedAt()))) {
+            recordUserResult(videoId, user.get().getId(), user.get().getResultCreatedAt());
+            return user.map(ReusableAnalysis::from);
+        }
+        recordTop10Result(videoId, top10.get().getCreatedAt());
+        return top10.map(ReusableAnalysis::from);
+    }
+
+    /** 사용자 분석 완료 시 최신 결과 인덱스를 갱신한다. */
+    public void recordUserResult(String videoId, Long videoAnalysisId, LocalDateTime createdAt) {
+        writeIndex(videoId, USER_SOURCE_PREFIX + videoAnalysisId, createdAt);
+    }
+
+    /** Top10 분석 완료 시 최신 결과 인덱스를 갱신한다. */
+    public void recordTop10Result(String videoId, LocalDateTime createdAt) {
+        writeIndex(videoId, TOP10_SOURCE, createdAt);
+    }
+
+    private Optional<ReusableAnalysis> findByIndex(String videoId) {
+        String source;
+        try {
+            source = redis.opsForValue().get(INDEX_PREFIX + videoId);
+        } catch (Exception e) {
+            log.warn("분석 결과 재사용 인덱스 조회 실패 videoId={}: {}", videoId, e.toString());
+            return Optional.empty();
+        }
+        if (source == null) return Optional.empty();
+
+        if (TOP10_SOURCE.equals(source)) {
+            return top10VideoAnalysisRepository.findById(videoId)
+                    .filter(this::isReusable)
+                    .map(ReusableAnalysis::from);
+        }
+        if (source.startsWith(USER_SOURCE_PREFIX)) {
+            try {
+                Long id = Long.valueOf(source.substring(USER_SOURCE_PREFIX.length()));
+                return videoAnalysisRepository.findById(id)
+                        .filter(this::isReusable)
+                        .map(ReusableAnalysis::from);
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void writeIndex(String videoId, String source, LocalDateTime createdAt) {
+        if (videoId == null || videoId.isBlank() || createdAt == null) return;
+        // 인덱스는 결과가 신선한 동안만 유지
+        Duration ttl = maxAge.minus(Duration.between(createdAt, LocalDateTime.now()));
+        if (ttl.isNegative() || ttl.isZero()) return;
+        try {
+            redis.opsForValue().set(INDEX_PREFIX + videoId, source, ttl);
+        } catch (Exception e) {
+            log.warn("분석 결과 재사용 인덱스 갱신 실패 videoId={}: {}", videoId, e.toString());
+        }
+    }
+
+    private boolean isReusable(VideoAnalysis va) {
+        return va.getStatus() == AnalysisStatus.COMPLETED && isFresh(va.getResultCreatedAt());
+    }
+
+    private boolean isReusable(Top10VideoAnalysis va) {
+        return va.getStatus() == AnalysisStatus.COMPLETED && isFresh(va.getCreatedAt());
+    }
+
+    private boolean isFresh(LocalDateTime createdAt) {
+        return createdAt != null && createdAt.isAfter(LocalDateTime.now().minus(maxAge));
+    }
+}
@@ -0,0 +1,184 @@
+package com.factseekerbackend.domain.analysis.service.fastapi;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 영상(videoId)에 대한 FastAPI 팩트체크 호출을 하나로 합치는 in-flight 레지스트리.
+ * 먼저 들어온 요청이 리더가 되어 FastAPI를 호출하고, 이후 요청들은 대기자로 등록되어 결과를 함께 받는다.
+ * 노드 간 합류는 Redis(리더 키 + 대기자 Set)로, Redis 장애 시에는 노드 내 합류로 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FactCheckInFlightRegistry {
+
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+
+    private static final String KEY_PREFIX = "factcheck:inflight:";
+
+    // 작업 1회 전달의 최대 처리 시간. 이보다 오래 걸린 작업은 다른 워커가 회수(XCLAIM)한다.
+    @Value("${analysis.queue.visibility-timeout:45m}")
+    private Duration visibilityTimeout;
+
+    // 대기자 등록과 리더 선출을 원자적으로 처리: 리더 키가 없으면 이 요청이 리더(1), 있으면 대기자(0)
+    private static final RedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 워커가 작업을 잡을 때(최초 전달/회수) 리더 키와 대기자 Set의 수명을 연장한다
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    // 회수했던 대기자를 되돌리고 리더 키를 다시 잡는다: 재전달된 작업의 drain이 이들을 다시 받는다
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #ARGV do
+                redis.call('SADD', KEYS[2], ARGV[i])
+            end
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            redis.call('SET', KEYS[1], ARGV[2], 'NX', 'PX', ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 대기자 목록 회수와 리더 키 해제를 원자적으로 처리: 이후 합류하는 요청은 새 리더가 된다
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local members = redis.call('SMEMBERS', KEYS[2])
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return members
+            """, List.class);
+
+    // Redis 장애 시 이 노드가 리더인 videoId → 대기 중인 VideoAnalysis ID
+    private final ConcurrentHashMap<String, Set<Long>> localWaiters = new ConcurrentHashMap<>();
+
+    /**
+     * videoId의 진행 중인 호출에 합류한다.
+     *
+     * @return 이 요청이 FastAPI 호출을 직접 수행해야 하면 true(리더), 진행 중인 호출에 합류했으면 false
+     */
+    public boolean join(String videoId, Long videoAnalysisId) {
+        // Redis 장애로 노드 내에서 진행 중인 호출이 있으면 그 호출에 합류
+        boolean[] attached = {false};
+        localWaiters.computeIfPresent(videoId, (k, waiters) -> {
+            waiters.add(videoAnalysisId);
+            attached[0] = true;
+            return waiters;
+        });
+        if (attached[0]) return false;
+
+        try {
+            Long leader = redis.execute(JOIN_SCRIPT,
+                    List.of(ownerKey(videoId), waitersKey(videoId)),
+                    String.valueOf(videoAnalysisId),
+                    String.valueOf(inFlightTtl().toMillis()));
+            // 작업은 어느 노드에서든 처리될 수 있으므로 대기자는 Redis에만 기록한다
+            return leader != null && leader == 1L;
+        } catch (Exception e) {
+            log.warn("in-flight 레지스트리 Redis 합류 실패, 노드 내 합류로 대체 videoId={}: {}", videoId, e.toString());
+            boolean[] leader = {false};
+            localWaiters.compute(videoId, (k, waiters) -> {
+                if (waiters == null) leader[0] = true;
+                return addWaiter(waiters, videoAnalysisId);
+            });
+            return leader[0];
+        }
+    }
+
+    /**
+     * 리더의 호출이 끝났을 때 대기자 전원을 회수하고 in-flight 상태를 해제한다.
+     */
+    public Set<Long> drain(String videoId) {
+        Set<Long> waiters = new LinkedHashSet<>();
+        Set<Long> local = localWaiters.remove(videoId);
+        if (local != null) waiters.addAll(local);
+
+        try {
+            List<?> members = redis.execute(DRAIN_SCRIPT, List.of(ownerKey(videoId), waitersKey(videoId)));
+            if (members != null) {
+                for (Object m : members) {
+                    try {
+                        waiters.add(Long.valueOf(String.valueOf(m)));
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("in-flight 레지스트리 Redis 회수 실패 videoId={}: {}", videoId, e.toString());
+        }
+        return waiters;
+    }
+
+    /**
+     * {@link #drain}으로 회수한 대기자의 결과 반영에 실패했을 때 되돌려 놓는다. 작업은 ACK되지 않으므로
+     * 회수/재전달되거나 dead-letter로 옮겨질 때 이 대기자들이 다시 처리된다.
+     */
+    public void restore(String videoId, Set<Long> waiters) {
+        if (waiters.isEmpty()) return;
+        List<String> args = new ArrayList<>(waiters.size() + 1);
+        args.add(String.valueOf(inFlightTtl().toMillis()));
+        waiters.forEach(id -> args.add(String.valueOf(id)));
+        try {
+            redis.execute(RESTORE_SCRIPT, List.of(ownerKey(videoId), waitersKey(videoId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("in-flight 레지스트리 Redis 복원 실패, 노드 내에 보관 videoId={}: {}", videoId, e.toString());
+            localWaiters.compute(videoId, (k, existing) -> {
+                Set<Long> out = existing != null ? existing : ConcurrentHashMap.newKeySet();
+                out.addAll(waiters);
+                return out;
+            });
+        }
+    }
+
+    /**
+     * 작업이 워커에 전달될 때마다 호출한다. 처리 중에 키가 만료되어 다음 요청이 두 번째 리더가 되는 것을 막는다.
+     */
+    public void touch(String videoId) {
+        try {
+            redis.execute(TOUCH_SCRIPT, List.of(ownerKey(videoId), waitersKey(videoId)),
+                    String.valueOf(inFlightTtl().toMillis()));
+        } catch (Exception e) {
+            log.warn("in-flight 레지스트리 수명 연장 실패 videoId={}: {}", videoId, e.toString());
+        }
+    }
+
+    // 큐 대기(최초 전달 전) + 전달 1회 처리 시간(visibility timeout)을 덮는다. 전달/회수 때마다 다시 연장된다.
+    // 리더 노드가 죽고 작업도 사라졌다면 이 시간 뒤에 새 리더가 선출된다.
+    private Duration inFlightTtl() {
+        return visibilityTimeout.multipliedBy(2);
+    }
+
+    private Set<Long> addWaiter(Set<Long> waiters, Long videoAnalysisId) {
+        Set<Long> out = (waiters != null) ? waiters : ConcurrentHashMap.newKeySet();
+        out.add(videoAnalysisId);
+        return out;
+    }
+
+    private String ownerKey(String videoId) {
+        return KEY_PREFIX + videoId;
+    }
+
+    private String waitersKey(String videoId) {
+        return KEY_PREFIX + videoId + ":waiters";
+    }
+}
@@ -0,0 +1,160 @@
+package com.factseekerbackend.domain.analysis.service.fastapi;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자 팩트체크 작업을 위한 Redis Streams 기반 작업 큐.
+ * 컨슈머 그룹으로 여러 노드가 나눠 처리하고, ACK되지 않은 작업은 visibility timeout 이후 다른 워커가 회수한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FactCheckJobQueue {
+
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+
+    static final String STREAM_KEY = "factcheck:jobs";
+    static final String DEAD_LETTER_KEY = "factcheck:jobs:dlq";
+    static final String GROUP = "factcheck-workers";
+
+    private static final String FIELD_VIDEO_ID = "videoId";
+    private static final String FIELD_YOUTUBE_URL = "youtubeUrl";
+    private static final String FIELD_ENQUEUED_AT = "enqueuedAt";
+
+    // 노드(프로세스)마다 고유한 컨슈머 이름
+    private final String consumerName = "worker-" + UUID.randomUUID().toString().substring(0, 8);
+
+    public record Job(RecordId id, String videoId, String youtubeUrl) {}
+
+    @PostConstruct
+    void createGroup() {
+        try {
+            redis.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(bytes(STREAM_KEY), GROUP, ReadOffset.from("0"), true));
+        } catch (Exception e) {
+            // BUSYGROUP: 이미 그룹이 존재
+            log.debug("팩트체크 작업 컨슈머 그룹 생성 스킵: {}", e.getMessage());
+        }
+    }
+
+    public RecordId enqueue(String videoId, String youtubeUrl) {
+        Map<String, String> fields = Map.of(
+                FIELD_VIDEO_ID, videoId,
+                FIELD_YOUTUBE_URL, youtubeUrl,
+                FIELD_ENQUEUED_AT, Instant.now().toString()
+        );
+        return redis.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(fields));
+    }
+
+    /** 아직 어떤 컨슈머에게도 전달되지 않은 작업을 최대 count개 가져온다. */
+    public List<Job> readNew(int count) {
+        if (count <= 0) return List.of();
+        List<MapRecord<String, Object, Object>> records = redis.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        if (records == null) return List.of();
+
+        List<Job> jobs = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> r : records) {
+            jobs.add(new Job(r.getId(),
+                    String.valueOf(r.getValue().get(FIELD_VIDEO_ID)),
+                    String.valueOf(r.getValue().get(FIELD_YOUTUBE_URL))));
+        }
+        return jobs;
+    }
+
+    /**
+     * 처리가 끝난 작업을 ACK하고 스트림에서 지운다. 길이 기준 trim은 아직 PEL에 있는(처리 중인) 작업까지
+     * 지울 수 있으므로, 스트림에는 아직 끝나지 않은 작업만 남도록 ACK한 항목만 삭제한다.
+     */
+    public void ack(RecordId id) {
+        redis.opsForStream().acknowledge(STREAM_KEY, GROUP, id);
+        redis.opsForStream().delete(STREAM_KEY, id);
+    }
+
+    /** visibility timeout을 넘긴 미확인 작업 목록 (전달 횟수 포함). */
+    public List<PendingMessage> findStale(Duration visibilityTimeout, int count) {
+        PendingMessages pending = redis.opsForStream().pending(STREAM_KEY, GROUP, Range.unbounded(), count);
+        if (pending == null) return List.of();
+
+        List<PendingMessage> stale = new ArrayList<>();
+        for (PendingMessage m : pending) {
+            if (m.getElapsedTimeSinceLastDelivery().compareTo(visibilityTimeout) >= 0) {
+                stale.add(m);
+            }
+        }
+        return stale;
+    }
+
+    /** 다른 컨슈머가 잡고 있던 작업의 소유권을 이 노드로 가져온다. 이미 다른 노드가 회수했다면 비어 있다. */
+    public List<Job> claim(RecordId id, Duration visibilityTimeout) {
+        List<ByteRecord> records = redis.execute((RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands()
+                .xClaim(bytes(STREAM_KEY), GROUP, consumerName, XClaimOptions.minIdle(visibilityTimeout).ids(id)));
+        if (records == null) return List.of();
+
+        List<Job> jobs = new ArrayList<>(records.size());
+        for (ByteRecord r : records) {
+            Map<String, String> fields = decode(r);
+            jobs.add(new Job(r.getId(), fields.get(FIELD_VIDEO_ID), fields.get(FIELD_YOUTUBE_URL)));
+        }
+        return jobs;
+    }
+
+    /** 최대 전달 횟수를 넘긴 작업을 dead-letter 스트림으로 옮기고 원본은 ACK한다. */
+    public Job deadLetter(PendingMessage message) {
+        List<MapRecord<String, Object, Object>> records = redis.opsForStream()
+                .range(STREAM_KEY, Range.closed(message.getIdAsString(), message.getIdAsString()));
+
+        Job job = null;
+        if (records != null && !records.isEmpty()) {
+            Map<String, String> fields = new HashMap<>();
+            records.get(0).getValue().forEach((k, v) -> fields.put(String.valueOf(k), String.valueOf(v)));
+            fields.put("sourceId", message.getIdAsString());
+            fields.put("deliveries", String.valueOf(message.getTotalDeliveryCount()));
+            redis.opsForStream().add(StreamRecords.newRecord().in(DEAD_LETTER_KEY).ofMap(fields));
+            job = new Job(message.getId(), fields.get(FIELD_VIDEO_ID), fields.get(FIELD_YOUTUBE_URL));
+        }
+        ack(message.getId());
+        return job;
+    }
+
+    private Map<String, String> decode(ByteRecord record) {
+        Map<String, String> out = new HashMap<>();
+        record.getValue().forEach((k, v) -> out.put(
+                new String(k, StandardCharsets.UTF_8), new String(v, StandardCharsets.UTF_8)));
+        return out;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,164 @@
+package com.factseekerbackend.domain.analysis.service.fastapi;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@link FactCheckJobQueue}를 소비하는 워커. 모든 노드에서 실행 가능하며,
+ * 처리 슬롯(동시성)을 먼저 잡은 만큼만 작업을 가져오고 처리가 끝난 작업만 ACK한다.
+ * 가져온 작업은 이미 이 컨슈머에 전달된 상태이므로, 슬롯이 없어 PEL에 방치되는 일이 없도록 읽기 전에 슬롯을 확보한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FactCheckJobWorker {
+
+    private final FactCheckJobQueue jobQueue;
+    private final FactCheckTriggerService triggerService;
+    private final FactCheckInFlightRegistry inFlightRegistry;
+    private final FactCheckResultService resultService;
+
+    // 동시에 진행할 작업 수. 실제 FastAPI 동시 호출 수는 FastApiGateway의 적응형 한도가 결정한다.
+    @Value("${analysis.queue.concurrency:100}")
+    private int concurrency;
+
+    // 게이트웨이 한도 대기(max-queue-wait 15m) + FastAPI read timeout(360s) x 최대 3회 시도보다 길어야 한다
+    @Value("${analysis.queue.visibility-timeout:45m}")
+    private Duration visibilityTimeout;
+
+    @Value("${analysis.queue.max-deliveries:3}")
+    private int maxDeliveries;
+
+    private volatile Semaphore slots;
+    private volatile boolean running = true;
+    private final Disposable.Composite inFlight = Disposables.composite();
+
+    @Scheduled(fixedDelay = 1000, initialDelay = 5000)
+    public void pollNewJobs() {
+        if (!running) return;
+        Semaphore s = slots();
+        int reserved = s.drainPermits();
+        if (reserved <= 0) return;
+
+        List<FactCheckJobQueue.Job> jobs;
+        try {
+            jobs = jobQueue.readNew(reserved);
+        } catch (Exception e) {
+            s.release(reserved);
+            log.warn("팩트체크 작업 큐 읽기 실패: {}", e.toString());
+            return;
+        }
+        // 읽어 온 작업 수만큼만 슬롯을 쓰고 나머지는 돌려준다
+        s.release(reserved - jobs.size());
+        for (FactCheckJobQueue.Job job : jobs) {
+            dispatch(job, s);
+        }
+    }
+
+    /** 다른 노드가 처리하다 죽었거나 재배포로 중단된 작업을 회수한다. */
+    @Scheduled(fixedDelay = 30000, initialDelay = 30000)
+    public void reclaimStaleJobs() {
+        if (!running) return;
+        try {
+            for (PendingMessage message : jobQueue.findStale(visibilityTimeout, 50)) {
+                if (message.getTotalDeliveryCount() >= maxDeliveries) {
+                    FactCheckJobQueue.Job dead = jobQueue.deadLetter(message);
+                    log.error("팩트체크 작업 최대 전달 횟수 초과 → dead-letter id={} deliveries={}",
+                            message.getIdAsString(), message.getTotalDeliveryCount());
+                    if (dead != null && dead.videoId() != null) {
+                        resultService.markUserAnalysesFailed(inFlightRegistry.drain(dead.videoId()));
+                    }
+                    continue;
+                }
+                Semaphore s = slots();
+                if (!s.tryAcquire()) break;
+                List<FactCheckJobQueue.Job> claimed;
+                try {
+                    claimed = jobQueue.claim(message.getId(), visibilityTimeout);
+                } catch (Exception e) {
+                    s.release();
+                    throw e;
+                }
+                if (claimed.isEmpty()) {
+                    // 그 사이 다른 노드가 회수했거나 ACK됨
+                    s.release();
+                    continue;
+                }
+                if (claimed.size() > 1) s.release(claimed.size() - 1);
+                for (FactCheckJobQueue.Job job : claimed) {
+                    log.info("미완료 팩트체크 작업 회수 id={} videoId={}", job.id(), job.videoId());
+                    dispatch(job, s);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("미완료 팩트체크 작업 회수 실패: {}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        // 새 작업을 더 가져오지 않고 진행 중인 FastAPI 요청을 취소한다. 취소된 작업은 ACK되지 않으므로 다른 노드가 회수한다.
+        running = false;
+        inFlight.dispose();
+    }
+
+    // 호출 전에 슬롯 하나를 이미 잡아 두어야 하며, 처리가 끝나면(또는 시작하지 못하면) 여기서 반납한다
+    private void dispatch(FactCheckJobQueue.Job job, Semaphore s) {
+        Mono<Void> processing;
+        try {
+            // 최초 전달/회수 모두 여기를 지나므로 처리하는 동안 in-flight 키가 만료되지 않게 연장한다
+            if (job.videoId() != null) inFlightRegistry.touch(job.videoId());
+            processing = triggerService.processFactCheck(job.videoId(), job.youtubeUrl());
+        } catch (RuntimeException e) {
+            // 시작 전에 실패: 작업은 ACK하지 않았으므로 visibility timeout 이후 회수된다
+            s.release();
+            log.error("팩트체크 작업 시작 실패 id={} videoId={}: {}", job.id(), job.videoId(), e.toString());
+            return;
+        }
+        // FastAPI 호출은 논블로킹이므로 슬롯 수만큼 동시에 진행되어도 스레드를 점유하지 않는다
+        Disposable[] holder = new Disposable[1];
+        holder[0] = processing
+                .doFinally(signal -> {
+                    s.release();
+                    if (holder[0] != null) inFlight.remove(holder[0]);
+                })
+                .subscribe(
+                        null,
+                        e -> log.error("팩트체크 작업 처리 실패 id={} videoId={}: {}", job.id(), job.videoId(), e.toString(), e),
+                        () -> ack(job));
+        inFlight.add(holder[0]);
+        // 구독 중에 이미 끝났다면 doFinally 시점에는 holder가 비어 있었으므로 여기서 정리
+        if (holder[0].isDisposed()) inFlight.remove(holder[0]);
+    }
+
+    private void ack(FactCheckJobQueue.Job job) {
+        try {
+            jobQueue.ack(job.id());
+        } catch (Exception e) {
+            log.warn("팩트체크 작업 ACK 실패 id={} (회수 후 재처리될 수 있음): {}", job.id(), e.toString());
+        }
+    }
+
+    private Semaphore slots() {
+        Semaphore s = slots;
+        if (s == null) {
+            synchronized (this) {
+                if (slots == null) slots = new Semaphore(Math.max(1, concurrency));
+                s = slots;
+            }
+        }
+        return s;
+    }
+}
@@ -1,21 +1,25 @@
 package com.factseekerbackend.domain.analysis.service.fastapi;
 
-import com.factseekerbackend.domain.analysis.controller.dto.response.fastapi.FastApiFactCheckResponse;
 import com.factseekerbackend.domain.analysis.controller.dto.response.VideoAnalysisResponse;
-import com.factseekerbackend.domain.analysis.entity.video.Top10VideoAnalysis;
 import com.factseekerbackend.domain.analysis.entity.video.VideoAnalysis;
 import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
-import com.factseekerbackend.domain.analysis.repository.Top10VideoAnalysisRepository;
+import com.factseekerbackend.domain.analysis.repository.Top10VideoAnalysisBulkRepository;
 import com.factseekerbackend.domain.analysis.repository.VideoAnalysisRepository;
+import com.factseekerbackend.domain.analysis.service.event.AnalysisEventPublisher;
+import com.factseekerbackend.domain.analysis.service.event.AnalysisStatusEvent;
+import com.factseekerbackend.domain.analysis.service.fastapi.dto.FactCheckPayload;
+import com.factseekerbackend.domain.analysis.service.fastapi.dto.Top10Outcome;
 import com.factseekerbackend.domain.user.repository.UserRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.factseekerbackend.global.common.RawJson;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,54 +27,40 @@ import java.time.LocalDateTime;
 @Slf4j
 public class FactCheckResultService {
 
-    private final Top10VideoAnalysisRepository top10VideoAnalysisRepository;
+    private final Top10VideoAnalysisBulkRepository top10VideoAnalysisBulkRepository;
     private final VideoAnalysisRepository videoAnalysisRepository;
     private final UserRepository userRepository;
-    private final ObjectMapper om;
+    private final AnalysisResultReuseService reuseService;
+    private final AnalysisEventPublisher eventPublisher;
 
-    public void upsertFromFastApiResponse(String json) {
-        try {
-            FastApiFactCheckResponse dto = parse(json);
-            if (dto == null || dto.videoId() == null || dto.videoId().isBlank()) return;
-
-            String claimsAsJson = om.writeValueAsString(dto.claims());
-
-            Top10VideoAnalysis top10VideoAnalysis = top10VideoAnalysisRepository.findById(dto.videoId())
-                    .orElseGet(() -> Top10VideoAnalysis.builder().videoId(dto.videoId()).build())
-                    .toBuilder()
-                    .status(AnalysisStatus.COMPLETED)
-                    .videoUrl(dto.videoUrl())
-                    .totalConfidenceScore(dto.videoTotalConfidenceScore())
-                    .summary(dto.summary())
-                    .channelType(dto.channelType())
-                    .channelTypeReason(dto.channelTypeReason())
-                    .claims(claimsAsJson)
-                    .keywords(dto.keywords())
-                    .threeLineSummary(dto.threeLineSummary())
-                    .createdAt(dto.createdAt())
-                    .build();
-
-            top10VideoAnalysisRepository.save(top10VideoAnalysis);
-        } catch (Exception e) {
-            log.error("Error in upsertFromFastApiResponse: {}", e.getMessage(), e);
-        }
-    }
-
-    public void saveFailedTop10Analysis(String videoId) {
-        if (videoId == null || videoId.isBlank()) return;
-
-        Top10VideoAnalysis failedAnalysis = top10VideoAnalysisRepository.findById(videoId)
-                .orElseGet(() -> Top10VideoAnalysis.builder().videoId(videoId).build())
-                .toBuilder()
-                .status(AnalysisStatus.FAILED)
-                .createdAt(LocalDateTime.now()) // Record the time of failure
-                .build();
-
-        top10VideoAnalysisRepository.save(failedAnalysis);
+    /**
+     * Top10 분석 결과 묶음을 일괄 저장한다. 완료/실패를 각각 한 번의 배치 UPSERT로 쓰고, 커밋 후 상태 이벤트를 발행한다.
+     */
+    public void saveTop10Outcomes(List<Top10Outcome> outcomes) {
+        if (outcomes == null || outcomes.isEmpty()) return;
+
+        List<FactCheckPayload> completed = outcomes.stream()
+                .filter(Top10Outcome::isCompleted)
+                .map(Top10Outcome::payload)
+                .filter(dto -> dto.videoId() != null && !dto.videoId().isBlank())
+                .toList();
+        List<String> failed = outcomes.stream()
+                .filter(o -> !o.isCompleted())
+                .map(Top10Outcome::videoId)
+                .filter(videoId -> videoId != null && !videoId.isBlank())
+                .toList();
+
+        top10VideoAnalysisBulkRepository.upsertCompleted(completed);
+        top10VideoAnalysisBulkRepository.markFailed(failed, LocalDateTime.now());
+
+        completed.forEach(dto -> reuseService.recordTop10Result(dto.videoId(), dto.createdAt()));
+        eventPublisher.publishAll(Stream.concat(
+                completed.stream().map(dto -> AnalysisStatusEvent.top10(dto.videoId(), AnalysisStatus.COMPLETED)),
+                failed.stream().map(videoId -> AnalysisStatusEvent.top10(videoId, AnalysisStatus.FAILED))
+        ).toList());
     }
 
-    public VideoAnalysisResponse buildResponseFromFastApiNotLogin(String json) {
-        FastApiFactCheckResponse dto = parse(json);
+    public VideoAnalysisResponse buildResponseFromFastApiNotLogin(FactCheckPayload dto) {
         if (dto == null || dto.videoId() == null || dto.videoId().isBlank()) return null;
 
         return VideoAnalysisResponse.builder()
@@ -80,7 +70,7 @@ public class FactCheckResultService {
                 .summary(dto.summary())
                 .channelType(dto.channelType())
                 .channelTypeReason(dto.channelTypeReason())
-                .claims(dto.claims()) // Pass the list of ClaimDto directly
+                .claims(RawJson.ofArray(dto.claims().json()))
                 .keywords(dto.keywords())
                 .threeLineSummary(dto.threeLineSummary())
                 .createdAt(dto.createdAt())
@@ -88,13 +78,10 @@ public class FactCheckResultService {
                 .build();
     }
 
-    public void upsertFromFastApiResponseToUser(String json, Long userId) {
+    public void upsertFromFastApiResponseToUser(FactCheckPayload dto, Long userId) {
         try {
-            FastApiFactCheckResponse dto = parse(json);
             if (dto == null || dto.videoId() == null || dto.videoId().isBlank()) return;
 
-            String claimsAsJson = om.writeValueAsString(dto.claims());
-
             VideoAnalysis videoAnalysis = VideoAnalysis.builder()
                     .videoId(dto.videoId())
                     .videoUrl(dto.videoUrl())
@@ -102,7 +89,7 @@ public class FactCheckResultService {
                     .summary(dto.summary())
                     .channelType(dto.channelType())
                     .channelTypeReason(dto.channelTypeReason())
-                    .claims(claimsAsJson)
+                    .claimsZ(dto.claims())
                     .keywords(dto.keywords())
                     .threeLineSummary(dto.threeLineSummary())
                     .user(userRepository.getReferenceById(userId))
@@ -117,42 +104,56 @@ public class FactCheckResultService {
     }
 
     /**
-     * 기존 VideoAnalysis 레코드(ID 기반)를 FastAPI 응답 내용으로 업데이트한다.
+     * 같은 영상에 합류한 VideoAnalysis 레코드들(ID 기반)을 단일 FastAPI 응답 내용으로 일괄 업데이트한다.
      */
-    public void updateExistingFromFastApiResponseToUser(String json, Long videoAnalysisId) {
+    public void updateWaitingFromFastApiResponseToUser(FactCheckPayload dto, Collection<Long> videoAnalysisIds) {
+        if (videoAnalysisIds == null || videoAnalysisIds.isEmpty()) return;
         try {
-            FastApiFactCheckResponse dto = parse(json);
-            if (dto == null || dto.videoId() == null || dto.videoId().isBlank()) return;
-
-            String claimsAsJson = om.writeValueAsString(dto.claims());
-
-            videoAnalysisRepository.findById(videoAnalysisId).ifPresent(existing -> {
-                VideoAnalysis updated = existing.toBuilder()
-                        .videoId(dto.videoId())
-                        .videoUrl(dto.videoUrl())
-                        .totalConfidenceScore(dto.videoTotalConfidenceScore())
-                        .summary(dto.summary())
-                        .channelType(dto.channelType())
-                        .channelTypeReason(dto.channelTypeReason())
-                        .claims(claimsAsJson)
-                        .keywords(dto.keywords())
-                        .threeLineSummary(dto.threeLineSummary())
-                        .createdAt(dto.createdAt())
-                        .status(AnalysisStatus.COMPLETED)
-                        .build();
-                videoAnalysisRepository.save(updated);
-            });
+            if (dto == null || dto.videoId() == null || dto.videoId().isBlank()) {
+                markUserAnalysesFailed(videoAnalysisIds);
+                return;
+            }
+
+            List<VideoAnalysis> updated = videoAnalysisRepository.findAllById(videoAnalysisIds).stream()
+                    .map(existing -> existing.toBuilder()
+                            .videoId(dto.videoId())
+                            .videoUrl(dto.videoUrl())
+                            .totalConfidenceScore(dto.videoTotalConfidenceScore())
+                            .summary(dto.summary())
+                            .channelType(dto.channelType())
+                            .channelTypeReason(dto.channelTypeReason())
+                            .claims(null)
+                            .claimsZ(dto.claims()) // 합류한 모든 레코드가 같은 압축 값을 공유한다
+                            .keywords(dto.keywords())
+                            .threeLineSummary(dto.threeLineSummary())
+                            .createdAt(dto.createdAt())
+                            .status(AnalysisStatus.COMPLETED)
+                            .build())
+                    .toList();
+            videoAnalysisRepository.saveAll(updated);
+            if (!updated.isEmpty()) {
+                VideoAnalysis latest = updated.get(0);
+                reuseService.recordUserResult(latest.getVideoId(), latest.getId(), latest.getCreatedAt());
+            }
+            publishUserEvents(updated);
         } catch (Exception e) {
-            log.error("Error in updateExistingFromFastApiResponseToUser: {}", e.getMessage(), e);
+            log.error("Error in updateWaitingFromFastApiResponseToUser: {}", e.getMessage(), e);
         }
     }
 
-    private FastApiFactCheckResponse parse(String json) {
-        try {
-            return om.readValue(json, FastApiFactCheckResponse.class);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse FastAPI response: {}", e.getMessage());
-            return null;
-        }
+    public void markUserAnalysesFailed(Collection<Long> videoAnalysisIds) {
+        if (videoAnalysisIds == null || videoAnalysisIds.isEmpty()) return;
+
+        List<VideoAnalysis> failed = videoAnalysisRepository.findAllById(videoAnalysisIds).stream()
+                .map(va -> va.toBuilder().status(AnalysisStatus.FAILED).build())
+                .toList();
+        videoAnalysisRepository.saveAll(failed);
+        publishUserEvents(failed);
+    }
+
+    private void publishUserEvents(List<VideoAnalysis> analyses) {
+        eventPublisher.publishAll(analyses.stream()
+                .map(va -> AnalysisStatusEvent.user(va.getId(), va.getVideoId(), va.getStatus()))
+                .toList());
     }
 }
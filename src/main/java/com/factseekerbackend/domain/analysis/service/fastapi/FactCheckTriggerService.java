@@ -1,85 +1,63 @@
 package com.factseekerbackend.domain.analysis.service.fastapi;
 
-import com.factseekerbackend.domain.analysis.controller.dto.response.VideoAnalysisResponse;
+import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
 import com.factseekerbackend.domain.analysis.entity.video.VideoAnalysis;
 import com.factseekerbackend.domain.analysis.repository.VideoAnalysisRepository;
-import com.factseekerbackend.domain.analysis.service.fastapi.dto.FactCheckRequest;
+import com.factseekerbackend.domain.analysis.service.fastapi.dto.FactCheckPayload;
+import com.factseekerbackend.domain.analysis.service.fastapi.dto.Top10Outcome;
+import com.factseekerbackend.domain.analysis.service.fastapi.gateway.FastApiGateway;
 import com.factseekerbackend.domain.user.repository.UserRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.factseekerbackend.domain.youtube.controller.dto.response.VideoDto;
+import com.factseekerbackend.domain.youtube.service.YoutubeService;
+import com.factseekerbackend.global.exception.BusinessException;
+import com.factseekerbackend.global.exception.ErrorCode;
+import com.factseekerbackend.global.util.YoutubeVideoKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FactCheckTriggerService {
 
-    private final RestClient fastApiClient;           // RestClientConfig에서 주입 (base-url)
+    private final FastApiGateway fastApiGateway;      // FastAPI 호출 (동시성 한도 + 서킷 브레이커 + 재시도)
     private final FactCheckResultService resultService; // RDS UPSERT 서비스
     private final VideoAnalysisRepository videoAnalysisRepository; // VideoAnalysisRepository 주입
     private final UserRepository userRepository;
-    private final ObjectMapper om;
+    private final FactCheckInFlightRegistry inFlightRegistry;
+    private final AnalysisResultReuseService reuseService;
+    private final FactCheckJobQueue jobQueue;
+    private final YoutubeService youtubeService;
+    @Qualifier("factCheckScheduler")
+    private final Scheduler factCheckScheduler;
 
     /**
-     * FastAPI POST 호출 → 응답 JSON을 RDS에 UPSERT.
+     * Top10 영상 1건의 FastAPI 호출. 저장은 호출자가 결과를 모아 {@link FactCheckResultService#saveTop10Outcomes}로 일괄 처리한다.
+     * 호출 대기 중에는 스레드를 점유하지 않으며, 최종 실패도 FAILED 결과로 완료된다.
      */
-    public void triggerSingleToRds(String videoId) {
-
-        if (videoId == null || videoId.isBlank()) return;
-
-        // videoId만 들어오면 전체 URL로 변환
-        String youtubeUrl = videoId.startsWith("https")
-                ? videoId
-                : "https://www.youtube.com/watch?v=" + videoId;
-
-        int maxAttempts = 3;
-        long backoffMs = 200L;
-
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            try {
-                String requestJson = om.writeValueAsString(new FactCheckRequest(youtubeUrl));
-                String response = fastApiClient.post()
-                        .uri("/fact-check")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .accept(MediaType.APPLICATION_JSON)
-                        .header("X-Idempotency-Key", videoId)
-                        .header("X-Requested-By", "spring-cron")
-                        .body(requestJson)
-                        .retrieve()
-                        .body(String.class);
-
-                // ▼ FastAPI 응답 JSON을 그대로 RDS에 저장 (요약 컬럼 + result_json)
-                resultService.upsertFromFastApiResponse(response);
-
-                log.info("FastAPI 처리 성공 → RDS 저장 완료 videoId={} (attempt {}/{})",
-                        videoId, attempt, maxAttempts);
-                return;
-
-            } catch (Exception e) {
-                log.warn("FastAPI 처리 실패 videoId={} (attempt {}/{}): {}",
-                        videoId, attempt, maxAttempts, e.toString());
-                
-                if (attempt == maxAttempts) {
-                    log.error("최종 실패: FastAPI 처리 실패 videoId={}. FAILED 상태로 저장합니다.", videoId);
-                    resultService.saveFailedTop10Analysis(videoId);
-                }
-
-                try {
-                    Thread.sleep(backoffMs);
-                } catch (InterruptedException ignored) {
-                    Thread.currentThread().interrupt();
-                }
-                backoffMs *= 2;
-            }
+    public Mono<Top10Outcome> factCheckTop10(String rawVideoId) {
+
+        String videoId = YoutubeVideoKey.extractId(rawVideoId);
+        if (videoId == null) {
+            log.warn("유효하지 않은 Top10 영상 ID는 건너뜀: {}", rawVideoId);
+            return Mono.empty();
         }
+        String youtubeUrl = YoutubeVideoKey.toWatchUrl(videoId);
+
+        return fastApiGateway.factCheck(videoId, youtubeUrl, "spring-cron")
+                .map(Top10Outcome::completed)
+                .doOnNext(outcome -> log.info("FastAPI 처리 성공 videoId={}", videoId))
+                .onErrorResume(e -> {
+                    log.error("최종 실패: FastAPI 처리 실패 videoId={}. FAILED 상태로 저장합니다. {}", videoId, e.toString());
+                    return Mono.just(Top10Outcome.failed(videoId));
+                });
     }
 
     /**
@@ -87,123 +65,100 @@ public class FactCheckTriggerService {
      * 비동기로 FastAPI 호출 및 결과 업데이트 진행.
      */
     public Long triggerAndReturnId(String videoId, Long userId) {
-        if (videoId == null || videoId.isBlank()) return null;
-
-        String youtubeUrl = videoId.startsWith("http")
-                ? videoId
-                : "https://www.youtube.com/watch?v=" + videoId;
-
-        String normalizedVideoId = extractYoutubeVideoId(videoId);
-        if (normalizedVideoId == null || normalizedVideoId.isBlank()) {
-            normalizedVideoId = videoId;
+        // 주소 형태(추적 파라미터 포함)와 상관없이 같은 영상은 같은 키로 캐시/합류/큐를 공유한다
+        String normalizedVideoId = YoutubeVideoKey.extractId(videoId);
+        if (normalizedVideoId == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효한 유튜브 영상 주소가 아닙니다.");
         }
+        String youtubeUrl = YoutubeVideoKey.toWatchUrl(normalizedVideoId);
 
-        VideoAnalysis pending = VideoAnalysis.builder()
+        VideoAnalysis.VideoAnalysisBuilder builder = VideoAnalysis.builder()
                 .videoId(normalizedVideoId)
                 .videoUrl(youtubeUrl)
                 .user(Optional.ofNullable(userId)
                         .flatMap(userRepository::findById)
-                        .orElse(null))
-                .status(AnalysisStatus.PENDING)
-                .build();
-        pending = videoAnalysisRepository.save(pending);
+                        .orElse(null));
+        // 목록 화면이 YouTube를 호출하지 않도록 제목/채널/썸네일을 함께 저장한다
+        applyVideoMetadata(builder, normalizedVideoId);
+
+        // 최근 COMPLETED 결과(다른 사용자/Top10)가 있으면 FastAPI 호출 없이 즉시 복제
+        Optional<AnalysisResultReuseService.ReusableAnalysis> reusable = reuseService.findReusable(normalizedVideoId);
+        if (reusable.isPresent()) {
+            VideoAnalysis reused = videoAnalysisRepository.save(reusable.get().applyTo(builder).build());
+            log.info("최근 분석 결과 재사용 videoId={} analysisId={} originalCreatedAt={}",
+                    normalizedVideoId, reused.getId(), reused.getResultCreatedAt());
+            return reused.getId();
+        }
+
+        VideoAnalysis pending = videoAnalysisRepository.save(builder.status(AnalysisStatus.PENDING).build());
 
+        // 같은 영상이 이미 분석 중이면 진행 중인 FastAPI 호출에 합류하고 결과는 완료 시 함께 받는다
+        if (!inFlightRegistry.join(normalizedVideoId, pending.getId())) {
+            log.info("진행 중인 FastAPI 호출에 합류 videoId={} analysisId={}", normalizedVideoId, pending.getId());
+            return pending.getId();
+        }
 
-        // 비동기 처리 시작
-        processFactCheck(pending.getId(), normalizedVideoId, youtubeUrl);
+        // 내구성 있는 작업 큐에 등록 → 어느 노드의 워커든 가져가 처리 (재배포 시에도 유실되지 않음)
+        try {
+            jobQueue.enqueue(normalizedVideoId, youtubeUrl);
+        } catch (Exception e) {
+            log.warn("팩트체크 작업 큐 등록 실패, 이 노드에서 직접 처리 videoId={}: {}", normalizedVideoId, e.toString());
+            processFactCheck(normalizedVideoId, youtubeUrl).subscribe(
+                    null, ex -> log.error("팩트체크 직접 처리 실패 videoId={}: {}", normalizedVideoId, ex.toString()));
+        }
 
         return pending.getId();
     }
 
 
-
-    @Async("factCheckExecutor")
-    public void processFactCheck(Long videoAnalysisId, String normalizedVideoId, String youtubeUrl) {
-        int maxAttempts = 3;
-        long backoffMs = 200L;
-
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            try {
-                String requestJson = om.writeValueAsString(new FactCheckRequest(youtubeUrl));
-                String response = fastApiClient.post()
-                        .uri("/fact-check")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .accept(MediaType.APPLICATION_JSON)
-                        .header("X-Idempotency-Key", normalizedVideoId)
-                        .header("X-Requested-By", "spring-cron")
-                        .body(requestJson)
-                        .retrieve()
-                        .body(String.class);
-
-                // 기존 PENDING 레코드를 FastAPI 결과로 업데이트
-                resultService.updateExistingFromFastApiResponseToUser(response, videoAnalysisId);
-
-                log.info("FastAPI 처리 성공 → RDS 업데이트 완료 videoId={} (attempt {}/{})",
-                        normalizedVideoId, attempt, maxAttempts);
-                return;
-
-            } catch (Exception e) {
-                log.warn("FastAPI 처리 실패 videoId={} (attempt {}/{}): {}",
-                        normalizedVideoId, attempt, maxAttempts, e.toString());
-                // 실패 시 해당 레코드 상태를 FAILED로 업데이트
-                try {
-                    videoAnalysisRepository.findById(videoAnalysisId).ifPresent(va -> {
-                        VideoAnalysis failed = va.toBuilder().status(AnalysisStatus.FAILED).build();
-                        videoAnalysisRepository.save(failed);
-                    });
-                } catch (Exception ignored) {}
-
-                try {
-                    Thread.sleep(backoffMs);
-                } catch (InterruptedException ignored) {
-                    Thread.currentThread().interrupt();
-                }
-                backoffMs *= 2;
-            }
-        }
+    /**
+     * FastAPI 호출 후 합류한 모든 레코드를 업데이트한다. {@link FactCheckJobWorker}가 큐에서 꺼낸 작업마다 호출한다.
+     * 결과 반영까지 끝나면 완료되며, 구독을 취소하면 진행 중인 FastAPI 요청도 취소된다.
+     * FastAPI 최종 실패는 레코드를 FAILED로 바꾸고 정상 완료한다. 결과/실패 반영(DB) 자체가 실패하면
+     * 대기자를 되돌리고 오류로 끝내 작업이 ACK되지 않게 한다 (회수 후 재처리 또는 dead-letter).
+     */
+    public Mono<Void> processFactCheck(String normalizedVideoId, String youtubeUrl) {
+        return fastApiGateway.factCheck(normalizedVideoId, youtubeUrl, "spring-cron")
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    // 최종 실패(재시도 소진, 서킷 OPEN, 한도 대기 초과)
+                    log.warn("FastAPI 처리 최종 실패 videoId={}: {}", normalizedVideoId, e.toString());
+                    return Mono.just(Optional.<FactCheckPayload>empty());
+                })
+                // 저장(JPA)은 블로킹이므로 이벤트 루프가 아닌 factCheckExecutor에서 수행
+                .publishOn(factCheckScheduler)
+                .doOnNext(result -> {
+                    Set<Long> waiters = inFlightRegistry.drain(normalizedVideoId);
+                    try {
+                        if (result.isPresent()) {
+                            // 합류한 모든 PENDING 레코드를 단일 FastAPI 결과로 업데이트
+                            resultService.updateWaitingFromFastApiResponseToUser(result.get(), waiters);
+                            log.info("FastAPI 처리 성공 → RDS 업데이트 완료 videoId={} waiters={}", normalizedVideoId, waiters.size());
+                        } else {
+                            resultService.markUserAnalysesFailed(waiters);
+                        }
+                    } catch (RuntimeException e) {
+                        log.error("팩트체크 결과 반영 실패 videoId={} waiters={} (작업은 재처리됨): {}",
+                                normalizedVideoId, waiters.size(), e.toString(), e);
+                        inFlightRegistry.restore(normalizedVideoId, waiters);
+                        throw e;
+                    }
+                })
+                .then();
     }
 
 
-    // 다양한 YouTube URL 형태에서 videoId를 추출
-    private String extractYoutubeVideoId(String input) {
-        if (input == null || input.isBlank()) return null;
-        String s = input.trim();
+    // 메타데이터 캐시를 거치므로 대부분 YouTube 호출이 없다. 실패하면 비워 두고 백필 작업이 채운다.
+    private void applyVideoMetadata(VideoAnalysis.VideoAnalysisBuilder builder, String videoId) {
         try {
-            // 이미 순수 ID처럼 보이면 그대로 반환 (YouTube 기본 11자, 더 긴 경우도 호환)
-            if (!s.startsWith("http")) {
-                return s;
-            }
-
-            // 표준 watch URL: https://www.youtube.com/watch?v=VIDEO_ID
-            int vIdx = s.indexOf("v=");
-            if (vIdx != -1) {
-                String candidate = s.substring(vIdx + 2);
-                int amp = candidate.indexOf('&');
-                if (amp != -1) candidate = candidate.substring(0, amp);
-                return candidate;
-            }
-
-            // 짧은 URL: https://youtu.be/VIDEO_ID
-            String youtu = "youtu.be/";
-            int shortIdx = s.indexOf(youtu);
-            if (shortIdx != -1) {
-                String candidate = s.substring(shortIdx + youtu.length());
-                int q = candidate.indexOf('?');
-                if (q != -1) candidate = candidate.substring(0, q);
-                return candidate;
-            }
-
-            // Shorts: https://www.youtube.com/shorts/VIDEO_ID
-            String shorts = "/shorts/";
-            int shortsIdx = s.indexOf(shorts);
-            if (shortsIdx != -1) {
-                String candidate = s.substring(shortsIdx + shorts.length());
-                int q = candidate.indexOf('?');
-                if (q != -1) candidate = candidate.substring(0, q);
-                return candidate;
-            }
-        } catch (Exception ignored) {
+            VideoDto video = youtubeService.getVideoById(videoId);
+            if (video == null) return;
+            builder.videoTitle(video.videoTitle())
+                    .channelId(video.channelId())
+                    .channelTitle(video.channelTitle())
+                    .thumbnailUrl(video.thumbnailUrl());
+        } catch (Exception e) {
+            log.warn("영상 메타데이터 조회 실패, 백필로 미룸 videoId={}: {}", videoId, e.toString());
         }
-        return s; // 파싱 실패 시 원본 반환
     }
 }
@@ -1,168 +1,137 @@
 package com.factseekerbackend.domain.analysis.service.fastapi;
 
-import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
-import com.factseekerbackend.domain.analysis.entity.video.Top10VideoAnalysis;
-import com.factseekerbackend.domain.analysis.repository.Top10VideoAnalysisRepository;
+import com.factseekerbackend.domain.analysis.repository.Top10VideoAnalysisBulkRepository;
+import com.factseekerbackend.domain.youtube.controller.dto.response.VideoDto;
+import com.factseekerbackend.domain.youtube.service.PopularRankingStore;
+import com.factseekerbackend.domain.youtube.service.event.RankingChangedEvent;
+import com.factseekerbackend.global.util.YoutubeVideoKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.Objects;
+import java.util.Set;
 
+/**
+ * 인기 영상 순위 갱신 알림({@link RankingChangedEvent})을 받아 바로 Top10 분석을 시작한다.
+ * 알림은 모든 노드에 전달되며, 순위 버전별 분산락으로 한 노드만 분석한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FastApiBridgeService {
 
-    private final FactCheckTriggerService triggerService;      // FastAPI 호출 → RDS 저장
+    private final FactCheckTriggerService triggerService;      // FastAPI 호출
     @Qualifier("cacheRedisTemplate")
-    private final RedisTemplate<String, Object> cacheRedis;    // Redis 읽기용
-    private final Top10VideoAnalysisRepository top10VideoAnalysisRepository;
-
-    @Qualifier("factApiExecutor")
-    private final Executor factApiExecutor;                    // 전용 스레드풀 (동시성 3)
+    private final RedisTemplate<String, Object> cacheRedis;    // 분산락용
+    private final FactCheckResultService resultService;
+    private final Top10VideoAnalysisBulkRepository top10VideoAnalysisBulkRepository;
+    private final Top10ReanalysisPolicy reanalysisPolicy;
+    private final PopularRankingStore rankingStore;
+    @Qualifier("factCheckScheduler")
+    private final Scheduler factCheckScheduler;
+
+    // 완료된 분석 결과를 모아 저장하는 단위
+    @Value("${analysis.top10.flush-size:10}")
+    private int flushSize;
+    @Value("${analysis.top10.flush-interval:5s}")
+    private Duration flushInterval;
 
     private static final int SIZE = 10;
-    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
-    private static final DateTimeFormatter LOCK_FMT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
-
-    /**
-     * 스케줄 B: 매 6시간 간격 정각 + 10초에 FastAPI 호출 시작
-     */
-
-    @Scheduled(cron = "10 40 */6 * * *", zone = "Asia/Seoul")
-
-
-
-
-    public void callFastApiForTop10() {
-        String tag = OffsetDateTime.now(KST).format(LOCK_FMT);
-
-        // 분산락: 같은 분 중복 실행 방지
-        String lockKey = "lock:callFastAPI:" + tag;
-        Boolean locked = cacheRedis.opsForValue().setIfAbsent(lockKey, "1", Duration.ofMinutes(10));
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    @Async("factCheckExecutor")
+    @EventListener
+    public void onRankingChanged(RankingChangedEvent event) {
+        // 분산락: 같은 순위 갱신을 여러 노드가 중복 분석하지 않도록
+        String lockKey = "lock:callFastAPI:" + event.version();
+        Boolean locked = cacheRedis.opsForValue().setIfAbsent(lockKey, "1", LOCK_TTL);
         if (!Boolean.TRUE.equals(locked)) {
-            log.info("스킵: 다른 인스턴스가 실행 중 tag={}", tag);
+            log.info("스킵: 다른 인스턴스가 처리 중 version={}", event.version());
             return;
         }
+        log.info("순위 갱신 수신 version={} 신규 {}건 {} / 이탈 {}건",
+                event.version(), event.added().size(), event.added(), event.removed().size());
+
+        // 순위/락/Top10 행 모두 정규화된 영상 ID 하나를 키로 쓴다
+        List<String> videoIds = event.ranked().stream()
+                .limit(SIZE)
+                .map(YoutubeVideoKey::extractId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        callFastApiForTop10(videoIds);
+    }
 
+    /**
+     * 재분석 정책에 따라 고른 영상만 FastAPI로 분석한다. 호출은 논블로킹으로 진행되며 이 메서드는 바로 반환된다.
+     */
+    public void callFastApiForTop10(List<String> videoIds) {
         try {
-            // 캐시 신선도 단일 체크(정각+10초 기준, 120s 이내면 최신)
-            if (!isCacheFreshOnce(120)) {
-                log.warn("캐시 갱신 확인 실패(120s 이내 갱신 아님). 진행합니다.");
-            }
-
-            // videoId 일괄 조회
-            List<String> videoIds = fetchTopNVideoIdsPipeline(SIZE);
             if (videoIds.isEmpty()) {
                 log.warn("대상 videoId 없음. 종료.");
                 return;
             }
             log.info("대상 {}건: {}", videoIds.size(), videoIds);
 
-            // PENDING 상태로 Top10VideoAnalysis 레코드 미리 생성/업데이트
-            for (String videoId : videoIds) {
-                top10VideoAnalysisRepository.findById(videoId).ifPresentOrElse(
-                    analysis -> {
-                        // 이미 존재하는 경우, PENDING이 아니면 업데이트 (재분석 필요 시)
-                        if (analysis.getStatus() != AnalysisStatus.PENDING) {
-                            top10VideoAnalysisRepository.save(analysis.toBuilder()
-                                .status(AnalysisStatus.PENDING)
-                                .createdAt(LocalDateTime.now()) // 생성 시간 업데이트
-                                .build());
+            // 새 영상/실패/오래된 결과만 다시 분석. 기존 COMPLETED 결과는 새 결과가 나올 때까지 그대로 보여준다.
+            Top10ReanalysisPolicy.Plan plan = reanalysisPolicy.plan(videoIds);
+            log.info("Top10 재분석 계획: 분석 {}건(신규/실패 {}건), 건너뜀 {}건",
+                    plan.toAnalyze().size(), plan.toMarkPending().size(), plan.skipped());
+
+            // 보여줄 결과가 없는 영상만 PENDING 상태로 미리 생성/업데이트 (배치 UPSERT 1회)
+            top10VideoAnalysisBulkRepository.markPending(plan.toMarkPending(), LocalDateTime.now());
+            recordVideoMetadata(videoIds);
+            if (plan.toAnalyze().isEmpty()) return;
+
+            // 논블로킹으로 동시 실행(동시 호출 수는 FastApiGateway의 적응형 한도로 제한)하고,
+            // 끝나는 대로 모아 flush-size건 또는 flush-interval마다 한 번에 저장
+            Flux.fromIterable(plan.toAnalyze())
+                    .flatMap(triggerService::factCheckTop10)
+                    .bufferTimeout(Math.max(1, flushSize), flushInterval)
+                    // 저장(JDBC)은 블로킹이므로 이벤트 루프가 아닌 factCheckExecutor에서 수행
+                    .publishOn(factCheckScheduler)
+                    .doOnNext(batch -> {
+                        try {
+                            resultService.saveTop10Outcomes(batch);
+                        } catch (Exception e) {
+                            log.error("Top10 분석 결과 일괄 저장 실패 {}건: {}", batch.size(), e.toString(), e);
                         }
-                    },
-                    () -> {
-                        // 존재하지 않는 경우, 새로 생성
-                        top10VideoAnalysisRepository.save(Top10VideoAnalysis.builder()
-                            .videoId(videoId)
-                            .status(AnalysisStatus.PENDING)
-                            .createdAt(LocalDateTime.now())
-                            .build());
-                    }
-                );
-            }
-            log.info("Top10VideoAnalysis PENDING 상태로 {}건 미리 생성/업데이트 완료.", videoIds.size());
-
-            // 전용 스레드풀로 동시 실행(풀 설정이 동시 3개로 제한)
-            List<CompletableFuture<Void>> futures = new ArrayList<CompletableFuture<Void>>(videoIds.size());
-            for (String id : videoIds) {
-                CompletableFuture<Void> f = CompletableFuture.runAsync(() -> {
-                    try {
-                        triggerService.triggerSingleToRds(id); // 네가 가진 RDS 저장 메서드
-                    } catch (Exception e) {
-                        log.warn("FastAPI 처리 실패 id={}: {}", id, e.toString());
-                    }
-                }, factApiExecutor);
-                futures.add(f);
-            }
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-            log.info("FastAPI 트리거 완료 ({}건)", videoIds.size());
+                    })
+                    .subscribe(
+                            null,
+                            e -> log.error("트리거 예외: {}", e.toString(), e),
+                            () -> log.info("FastAPI 트리거 완료 ({}건)", plan.toAnalyze().size()));
 
         } catch (Exception e) {
             log.error("트리거 예외: {}", e.toString(), e);
         }
     }
 
-    /** rank:1 updatedAt이 now-120s 이내면 최신으로 간주 (단일 체크) */
-    private boolean isCacheFreshOnce(int freshnessSec) {
-        Optional<String> tsOpt = getUpdatedAtFromRank(1);
-        if (!tsOpt.isPresent()) return false;
+    /** 순위 스냅샷에 이미 있는 제목/채널/썸네일을 Top10 행에 기록한다 (YouTube 호출 없음). */
+    private void recordVideoMetadata(List<String> videoIds) {
         try {
-            OffsetDateTime t = OffsetDateTime.parse(tsOpt.get());
-            long age = Math.abs(java.time.Duration.between(t, OffsetDateTime.now(KST)).getSeconds());
-            return age <= freshnessSec;
-        } catch (Exception ignore) {
-            return false;
-        }
-    }
-
-    /** Redis: rank 키의 updatedAt 읽기 (triggerService 의존 제거) */
-    private Optional<String> getUpdatedAtFromRank(int rank) {
-        Object v = cacheRedis.opsForHash().get(rankKey(rank), "updatedAt");
-        if (v instanceof String) return Optional.of((String) v);
-        return Optional.empty();
-    }
-
-    /** Redis: rank:1..n 의 videoId를 파이프라인으로 일괄 HGET (중복 제거 + 순서 유지) */
-    private List<String> fetchTopNVideoIdsPipeline(int n) {
-        List<Object> raw = cacheRedis.executePipelined((RedisCallback<Object>) connection -> {
-            for (int rank = 1; rank <= n; rank++) {
-                byte[] key = cacheRedis.getStringSerializer().serialize(rankKey(rank));
-                byte[] field = cacheRedis.getStringSerializer().serialize("videoId");
-                connection.hashCommands().hGet(key, field);
-            }
-            return null;
-        });
-
-        List<String> out = new ArrayList<>(n);
-        for (Object o : raw) {
-            if (o instanceof byte[]) {
-                String id =  cacheRedis.getStringSerializer().deserialize((byte[]) o);
-                if (id != null && !id.isBlank()) out.add(id);
-            } else if (o instanceof String) {
-                String s = (String) o;
-                if (!s.isBlank()) out.add(s);
-            }
+            PopularRankingStore.Snapshot snapshot = rankingStore.current();
+            if (snapshot == null) return;
+            Set<String> targets = new HashSet<>(videoIds);
+            List<VideoDto> videos = snapshot.videos().stream()
+                    .filter(v -> targets.contains(v.videoId()))
+                    .toList();
+            top10VideoAnalysisBulkRepository.updateVideoMetadata(videos);
+        } catch (Exception e) {
+            // 비어 있는 메타데이터는 백필 작업이 채운다
+            log.warn("Top10 영상 메타데이터 기록 실패: {}", e.toString());
         }
-        return new ArrayList<>(new LinkedHashSet<>(out));
-    }
-
-    private String rankKey(int rank) {
-        return "popular:politics:KR:rank:" + rank;
     }
 }
@@ -0,0 +1,345 @@
+package com.factseekerbackend.domain.analysis.service.fastapi;
+
+import com.factseekerbackend.domain.analysis.entity.converter.CompressedJson;
+import com.factseekerbackend.domain.analysis.service.fastapi.dto.FactCheckPayload;
+import com.factseekerbackend.global.exception.BusinessException;
+import com.factseekerbackend.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * FastAPI /fact-check 응답 본문을 도착하는 청크 단위로 파싱한다 (Jackson 논블로킹 파서).
+ * 스칼라 필드만 뽑아내고, claims 하위 트리는 토큰을 검증하면서 곧바로 압축 저장 포맷으로 복사하므로
+ * 응답 전체 문자열이나 DTO 트리를 메모리에 만들지 않는다.
+ *
+ * <p>응답 필드: video_id(필수), video_url, video_total_confidence_score, claims, summary, channel_type,
+ * channel_type_reason, created_at, keywords, three_line_summary.
+ * 알 수 없는 필드는 버리고, 필드 타입이 맞지 않으면 {@link ErrorCode#FASTAPI_INVALID_RESPONSE}로 실패한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FastApiResponseReader {
+
+    private final ObjectMapper om;
+
+    public Mono<FactCheckPayload> read(Flux<DataBuffer> body) {
+        return Mono.using(() -> new ResponseParser(om.getFactory()),
+                parser -> body
+                        .doOnNext(buffer -> {
+                            try {
+                                parser.feed(buffer);
+                            } finally {
+                                DataBufferUtils.release(buffer);
+                            }
+                        })
+                        .then(Mono.fromCallable(parser::finish)),
+                ResponseParser::close);
+    }
+
+    private static BusinessException invalid(String message) {
+        return new BusinessException(ErrorCode.FASTAPI_INVALID_RESPONSE, "FastAPI 응답 형식 오류: " + message);
+    }
+
+    /** 응답 1건의 파싱 상태. 최상위 객체의 필드를 읽고, claims 구간은 {@link ClaimsCopier}에 넘긴다. */
+    private static final class ResponseParser {
+
+        private final JsonFactory factory;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        private int depth;
+        private boolean rootClosed;
+        private String field;
+        private int skipDepth;
+        private ClaimsCopier claimsCopier;
+
+        private String videoId;
+        private String videoUrl;
+        private Integer totalConfidenceScore;
+        private CompressedJson claims;
+        private String summary;
+        private String channelType;
+        private String channelTypeReason;
+        private LocalDateTime createdAt;
+        private String keywords;
+        private String threeLineSummary;
+
+        ResponseParser(JsonFactory factory) throws IOException {
+            this.factory = factory;
+            this.parser = factory.createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        void feed(DataBuffer buffer) {
+            int length = buffer.readableByteCount();
+            if (length == 0) return;
+            byte[] chunk = new byte[length];
+            buffer.read(chunk);
+            try {
+                feeder.feedInput(chunk, 0, length);
+                drain();
+            } catch (JsonProcessingException e) {
+                throw invalid(e.getOriginalMessage());
+            } catch (IOException e) {
+                throw invalid(e.getMessage());
+            }
+        }
+
+        FactCheckPayload finish() {
+            try {
+                feeder.endOfInput();
+                drain();
+            } catch (JsonProcessingException e) {
+                throw invalid(e.getOriginalMessage());
+            } catch (IOException e) {
+                throw invalid(e.getMessage());
+            }
+            if (!rootClosed) throw invalid("응답 본문이 완결되지 않았습니다");
+            if (videoId == null || videoId.isBlank()) throw invalid("video_id 누락");
+            if (claims == null) claims = CompressedJson.compress("[]");
+
+            return new FactCheckPayload(videoId, videoUrl, totalConfidenceScore, claims, summary,
+                    channelType, channelTypeReason, createdAt, keywords, threeLineSummary);
+        }
+
+        void close() {
+            if (claimsCopier != null) claimsCopier.close();
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        // 지금까지 들어온 바이트로 만들 수 있는 토큰을 모두 처리한다
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                onToken(token);
+            }
+        }
+
+        private void onToken(JsonToken token) throws IOException {
+            if (claimsCopier != null) {
+                if (claimsCopier.accept(token)) {
+                    claims = claimsCopier.finish();
+                    claimsCopier = null;
+                }
+                return;
+            }
+            if (skipDepth > 0) {
+                if (token.isStructStart()) skipDepth++;
+                else if (token.isStructEnd()) skipDepth--;
+                return;
+            }
+            if (rootClosed) throw invalid("최상위 객체 뒤에 다른 값이 있습니다");
+            if (depth == 0) {
+                if (token != JsonToken.START_OBJECT) throw invalid("최상위 값이 객체가 아닙니다");
+                depth = 1;
+                return;
+            }
+            if (token == JsonToken.END_OBJECT) {
+                rootClosed = true;
+                depth = 0;
+                return;
+            }
+            if (token == JsonToken.FIELD_NAME) {
+                field = parser.currentName();
+                return;
+            }
+            readRootValue(token);
+        }
+
+        private void readRootValue(JsonToken token) throws IOException {
+            switch (field) {
+                case "video_id" -> videoId = text(token);
+                case "video_url" -> videoUrl = text(token);
+                case "video_total_confidence_score" -> totalConfidenceScore = integer(token);
+                case "summary" -> summary = text(token);
+                case "channel_type" -> channelType = text(token);
+                case "channel_type_reason" -> channelTypeReason = text(token);
+                case "created_at" -> createdAt = dateTime(text(token));
+                case "keywords" -> keywords = text(token);
+                case "three_line_summary" -> threeLineSummary = text(token);
+                case "claims" -> {
+                    if (token == JsonToken.VALUE_NULL) return;
+                    claimsCopier = new ClaimsCopier(parser, factory);
+                    claimsCopier.accept(token);
+                }
+                default -> {
+                    // 알 수 없는 필드는 값(하위 트리 포함)을 건너뛴다
+                    if (token.isStructStart()) skipDepth = 1;
+                }
+            }
+        }
+
+        private String text(JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_NULL) return null;
+            if (token != JsonToken.VALUE_STRING) throw invalid(field + " 필드는 문자열이어야 합니다");
+            return parser.getText();
+        }
+
+        private Integer integer(JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_NULL) return null;
+            if (!token.isNumeric()) throw invalid(field + " 필드는 숫자여야 합니다");
+            return parser.getValueAsInt();
+        }
+
+        private LocalDateTime dateTime(String value) {
+            if (value == null) return null;
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException e) {
+                try {
+                    return OffsetDateTime.parse(value).toLocalDateTime();
+                } catch (DateTimeParseException ignored) {
+                    throw invalid(field + " 필드의 날짜 형식이 올바르지 않습니다: " + value);
+                }
+            }
+        }
+    }
+
+    /**
+     * claims 배열의 토큰을 스키마(claim 목록 → evidence 목록)에 맞는지 확인하면서 압축 스트림으로 복사한다.
+     * 알려진 필드만 복사하므로 저장 값의 형태는 List&lt;ClaimDto&gt;와 같다.
+     */
+    private static final class ClaimsCopier {
+
+        private enum Scope { CLAIMS, CLAIM, EVIDENCE_LIST, EVIDENCE }
+
+        private enum ValueType { TEXT, INTEGER, EVIDENCE_LIST }
+
+        private final JsonParser parser;
+        private final CompressedJson.Encoder encoder;
+        private final JsonGenerator generator;
+        private final Deque<Scope> scopes = new ArrayDeque<>();
+
+        private ValueType expected;
+        private boolean skipNextValue;
+        private int skipDepth;
+
+        ClaimsCopier(JsonParser parser, JsonFactory factory) throws IOException {
+            this.parser = parser;
+            this.encoder = CompressedJson.encoder();
+            this.generator = factory.createGenerator(encoder, JsonEncoding.UTF8);
+        }
+
+        /** @return claims 배열이 닫혔으면 true */
+        boolean accept(JsonToken token) throws IOException {
+            if (skipDepth > 0) {
+                if (token.isStructStart()) skipDepth++;
+                else if (token.isStructEnd()) skipDepth--;
+                return false;
+            }
+            if (skipNextValue) {
+                skipNextValue = false;
+                if (token.isStructStart()) skipDepth = 1;
+                return false;
+            }
+
+            Scope scope = scopes.peek();
+            if (scope == null) {
+                if (token != JsonToken.START_ARRAY) throw invalid("claims 필드는 배열이어야 합니다");
+                scopes.push(Scope.CLAIMS);
+                generator.writeStartArray();
+                return false;
+            }
+
+            switch (scope) {
+                case CLAIMS, EVIDENCE_LIST -> {
+                    if (token == JsonToken.END_ARRAY) {
+                        scopes.pop();
+                        generator.writeEndArray();
+                        return scopes.isEmpty();
+                    }
+                    if (token != JsonToken.START_OBJECT) {
+                        throw invalid(scope == Scope.CLAIMS ? "claims 항목은 객체여야 합니다" : "evidence 항목은 객체여야 합니다");
+                    }
+                    scopes.push(scope == Scope.CLAIMS ? Scope.CLAIM : Scope.EVIDENCE);
+                    generator.writeStartObject();
+                }
+                case CLAIM, EVIDENCE -> {
+                    if (token == JsonToken.END_OBJECT) {
+                        scopes.pop();
+                        generator.writeEndObject();
+                    } else if (token == JsonToken.FIELD_NAME) {
+                        String name = parser.currentName();
+                        expected = scope == Scope.CLAIM ? claimField(name) : evidenceField(name);
+                        if (expected == null) skipNextValue = true;
+                        else generator.writeFieldName(name);
+                    } else {
+                        copyValue(token);
+                    }
+                }
+            }
+            return false;
+        }
+
+        CompressedJson finish() throws IOException {
+            // close()는 대상 스트림(encoder)까지 닫으므로 flush만 한다
+            generator.flush();
+            return encoder.finish();
+        }
+
+        void close() {
+            encoder.close();
+        }
+
+        private void copyValue(JsonToken token) throws IOException {
+            String name = parser.currentName();
+            if (token == JsonToken.VALUE_NULL) {
+                generator.writeNull();
+                return;
+            }
+            switch (expected) {
+                case TEXT -> {
+                    if (token != JsonToken.VALUE_STRING) throw invalid(name + " 필드는 문자열이어야 합니다");
+                    generator.writeString(parser.getText());
+                }
+                case INTEGER -> {
+                    if (!token.isNumeric()) throw invalid(name + " 필드는 숫자여야 합니다");
+                    generator.writeNumber(parser.getValueAsInt());
+                }
+                case EVIDENCE_LIST -> {
+                    if (token != JsonToken.START_ARRAY) throw invalid(name + " 필드는 배열이어야 합니다");
+                    scopes.push(Scope.EVIDENCE_LIST);
+                    generator.writeStartArray();
+                }
+            }
+        }
+
+        private static ValueType claimField(String name) {
+            return switch (name) {
+                case "claim", "result" -> ValueType.TEXT;
+                case "confidence_score" -> ValueType.INTEGER;
+                case "evidence" -> ValueType.EVIDENCE_LIST;
+                default -> null;
+            };
+        }
+
+        private static ValueType evidenceField(String name) {
+            return switch (name) {
+                case "url", "relevance", "fact_check_result", "justification", "snippet" -> ValueType.TEXT;
+                default -> null;
+            };
+        }
+    }
+}
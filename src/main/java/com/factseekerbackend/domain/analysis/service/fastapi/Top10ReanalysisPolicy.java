@@ -0,0 +1,97 @@
+package com.factseekerbackend.domain.analysis.service.fastapi;
+
+import com.factseekerbackend.domain.analysis.entity.AnalysisStatus;
+import com.factseekerbackend.domain.analysis.entity.video.Top10VideoAnalysis;
+import com.factseekerbackend.domain.analysis.repository.Top10VideoAnalysisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 새 Top10 순위 목록과 기존 분석 결과를 비교해 이번에 FastAPI로 다시 분석할 영상을 고른다.
+ * <ul>
+ *   <li>분석 기록이 없거나 FAILED → 분석 (PENDING으로 등록)</li>
+ *   <li>COMPLETED이지만 reanalyze-after보다 오래됨 → 분석하되, 새 결과가 나올 때까지 기존 결과를 계속 보여준다</li>
+ *   <li>PENDING이 pending-timeout보다 오래됨(처리하던 노드가 죽은 경우) → 다시 분석</li>
+ *   <li>그 외(최근 COMPLETED, 진행 중인 PENDING) → 건너뜀</li>
+ * </ul>
+ * 오래된 COMPLETED/PENDING은 행 상태를 바꾸지 않고 분석하므로, 영상별 리스(SET NX, pending-timeout)를 잡은 경우에만 고른다.
+ * 호출이 끝나기 전에 들어온 다음 순위 버전이 같은 영상을 또 분석하지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class Top10ReanalysisPolicy {
+
+    private static final String LEASE_PREFIX = "top10:reanalysis:";
+
+    private final Top10VideoAnalysisRepository top10VideoAnalysisRepository;
+
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+
+    @Value("${analysis.top10.reanalyze-after:24h}")
+    private Duration reanalyzeAfter;
+
+    @Value("${analysis.top10.pending-timeout:1h}")
+    private Duration pendingTimeout;
+
+    /**
+     * @param toAnalyze    FastAPI를 호출할 영상 (순위 순서 유지)
+     * @param toMarkPending 보여줄 결과가 없어 PENDING으로 등록할 영상 (toAnalyze의 부분집합)
+     * @param skipped      최근 결과가 있거나 이미 분석 중이라 건너뛴 영상 수
+     */
+    public record Plan(List<String> toAnalyze, List<String> toMarkPending, int skipped) {}
+
+    @Transactional(readOnly = true)
+    public Plan plan(List<String> rankedVideoIds) {
+        Map<String, Top10VideoAnalysis> existing = top10VideoAnalysisRepository.findAllById(rankedVideoIds).stream()
+                .collect(Collectors.toMap(Top10VideoAnalysis::getVideoId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> toAnalyze = new ArrayList<>();
+        List<String> toMarkPending = new ArrayList<>();
+        int skipped = 0;
+        for (String videoId : rankedVideoIds) {
+            Top10VideoAnalysis analysis = existing.get(videoId);
+            if (analysis == null || analysis.getStatus() == null || analysis.getStatus() == AnalysisStatus.FAILED) {
+                toAnalyze.add(videoId);
+                toMarkPending.add(videoId);
+            } else if (analysis.getStatus() == AnalysisStatus.COMPLETED) {
+                if (isOlderThan(analysis.getCreatedAt(), reanalyzeAfter, now) && tryLease(videoId)) toAnalyze.add(videoId);
+                else skipped++;
+            } else if (isOlderThan(analysis.getCreatedAt(), pendingTimeout, now) && tryLease(videoId)) {
+                toAnalyze.add(videoId);
+            } else {
+                skipped++;
+            }
+        }
+        return new Plan(toAnalyze, toMarkPending, skipped);
+    }
+
+    // 리스는 해제하지 않는다: 성공하면 created_at이 갱신되어 다시 고르지 않고, 실패하면 pending-timeout 뒤에 다시 시도된다
+    private boolean tryLease(String videoId) {
+        try {
+            return Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(LEASE_PREFIX + videoId, "1", pendingTimeout));
+        } catch (Exception e) {
+            log.warn("Top10 재분석 리스 획득 실패, 그대로 분석 videoId={}: {}", videoId, e.toString());
+            return true;
+        }
+    }
+
+    private boolean isOlderThan(LocalDateTime at, Duration age, LocalDateTime now) {
+        return at == null || at.isBefore(now.minus(age));
+    }
+}
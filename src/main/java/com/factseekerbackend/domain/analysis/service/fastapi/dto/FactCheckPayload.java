@@ -0,0 +1,21 @@
+package com.factseekerbackend.domain.analysis.service.fastapi.dto;
+
+import com.factseekerbackend.domain.analysis.entity.converter.CompressedJson;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스트리밍으로 읽은 FastAPI 팩트체크 응답. claims는 스키마 검증을 거쳐 저장 포맷(압축)으로 바로 옮겨진 값이다.
+ */
+public record FactCheckPayload(
+        String videoId,
+        String videoUrl,
+        Integer videoTotalConfidenceScore,
+        CompressedJson claims,
+        String summary,
+        String channelType,
+        String channelTypeReason,
+        LocalDateTime createdAt,
+        String keywords,
+        String threeLineSummary
+) {}
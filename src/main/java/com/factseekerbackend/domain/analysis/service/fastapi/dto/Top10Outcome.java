@@ -0,0 +1,19 @@
+package com.factseekerbackend.domain.analysis.service.fastapi.dto;
+
+/**
+ * Top10 영상 1건의 분석 결과. payload가 없으면 최종 실패다.
+ */
+public record Top10Outcome(String videoId, FactCheckPayload payload) {
+
+    public static Top10Outcome completed(FactCheckPayload payload) {
+        return new Top10Outcome(payload.videoId(), payload);
+    }
+
+    public static Top10Outcome failed(String videoId) {
+        return new Top10Outcome(videoId, null);
+    }
+
+    public boolean isCompleted() {
+        return payload != null;
+    }
+}
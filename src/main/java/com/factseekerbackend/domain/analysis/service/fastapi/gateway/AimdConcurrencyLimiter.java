@@ -0,0 +1,141 @@
+package com.factseekerbackend.domain.analysis.service.fastapi.gateway;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관측된 지연과 실패로 동시 호출 한도를 조절하는 AIMD 리미터.
+ * 정상 응답(지연이 임계값 이하)이면 한도를 1씩 늘리고, 타임아웃/5xx/지연 초과면 backoffRatio만큼 곱해 줄인다.
+ * 한도를 넘는 호출은 최대 maxQueue개까지 대기열에서 기다리며, 대기 중에도 스레드를 점유하지 않는다.
+ */
+public class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final Deque<CompletableFuture<Boolean>> waiters = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue,
+                                  double backoffRatio, Duration latencyThreshold) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.maxQueue = Math.max(0, maxQueue);
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = clamp(initialLimit);
+    }
+
+    /**
+     * 호출 슬롯을 요청한다. 슬롯을 얻으면 true, 대기열이 가득 찼거나 maxWait 안에 슬롯이 나지 않으면 false로 완료된다.
+     * 대기 중에 future를 취소하면 대기열에서 빠지며, true로 완료된 뒤에는 반드시 onSuccess/onDropped/onIgnored로 반납해야 한다.
+     */
+    public CompletableFuture<Boolean> acquire(Duration maxWait) {
+        CompletableFuture<Boolean> permit = new CompletableFuture<>();
+        synchronized (this) {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                permit.complete(true);
+                return permit;
+            }
+            if (waiters.size() >= maxQueue) {
+                permit.complete(false);
+                return permit;
+            }
+            waiters.addLast(permit);
+        }
+        permit.completeOnTimeout(false, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        // 타임아웃/취소된 대기자는 대기열에서 제거
+        permit.whenComplete((granted, e) -> {
+            if (!Boolean.TRUE.equals(granted)) {
+                synchronized (this) {
+                    waiters.remove(permit);
+                }
+            }
+        });
+        return permit;
+    }
+
+    /** 정상 응답. 지연이 임계값을 넘으면 과부하 신호로 보고 한도를 줄인다. */
+    public void onSuccess(long rttNanos) {
+        List<CompletableFuture<Boolean>> granted;
+        synchronized (this) {
+            // 한도를 절반 이상 쓰고 있을 때만 늘린다 (유휴 상태에서 한도가 무한정 커지지 않도록)
+            boolean utilized = inFlight * 2 >= limit;
+            inFlight--;
+            if (rttNanos > latencyThresholdNanos) {
+                limit = clamp(limit * backoffRatio);
+            } else if (utilized) {
+                limit = clamp(limit + 1);
+            }
+            granted = dequeueGranted();
+        }
+        grant(granted);
+    }
+
+    /** 타임아웃/5xx/429 등 과부하 신호. */
+    public void onDropped() {
+        List<CompletableFuture<Boolean>> granted;
+        synchronized (this) {
+            inFlight--;
+            limit = clamp(limit * backoffRatio);
+            granted = dequeueGranted();
+        }
+        grant(granted);
+    }
+
+    /** 한도 조절과 무관한 종료 (4xx, 취소 등). */
+    public void onIgnored() {
+        List<CompletableFuture<Boolean>> granted;
+        synchronized (this) {
+            inFlight--;
+            granted = dequeueGranted();
+        }
+        grant(granted);
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueueDepth() {
+        return waiters.size();
+    }
+
+    private List<CompletableFuture<Boolean>> dequeueGranted() {
+        List<CompletableFuture<Boolean>> granted = new ArrayList<>();
+        while (inFlight < (int) limit && !waiters.isEmpty()) {
+            granted.add(waiters.pollFirst());
+            inFlight++;
+        }
+        return granted;
+    }
+
+    // 대기자 콜백(다음 호출 시작)은 락 밖에서 실행한다
+    private void grant(List<CompletableFuture<Boolean>> granted) {
+        for (CompletableFuture<Boolean> permit : granted) {
+            if (!permit.complete(true)) {
+                // 그 사이 타임아웃/취소된 대기자 몫은 반납
+                onIgnored();
+            }
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,236 @@
+package com.factseekerbackend.domain.analysis.service.fastapi.gateway;
+
+import com.factseekerbackend.domain.analysis.service.fastapi.FastApiResponseReader;
+import com.factseekerbackend.domain.analysis.service.fastapi.dto.FactCheckPayload;
+import com.factseekerbackend.domain.analysis.service.fastapi.dto.FactCheckRequest;
+import com.factseekerbackend.global.exception.BusinessException;
+import com.factseekerbackend.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FastAPI 팩트체크 호출의 단일 진입점 (논블로킹).
+ * 적응형 동시성 한도(AIMD) → 서킷 브레이커 → 지터 재시도 순으로 보호하며, 사용자/Top10 호출이 같은 한도를 공유한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FastApiGateway {
+
+    private final WebClient fastApiWebClient;
+    private final FastApiResponseReader responseReader;
+    private final ObjectMapper om;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fastapi.gateway.limit.initial:3}")
+    private int initialLimit;
+    @Value("${fastapi.gateway.limit.min:1}")
+    private int minLimit;
+    @Value("${fastapi.gateway.limit.max:100}")
+    private int maxLimit;
+    @Value("${fastapi.gateway.limit.max-queue:500}")
+    private int maxQueue;
+    @Value("${fastapi.gateway.limit.max-queue-wait:15m}")
+    private Duration maxQueueWait;
+    @Value("${fastapi.gateway.limit.backoff-ratio:0.75}")
+    private double backoffRatio;
+    // 이 지연을 넘긴 정상 응답도 과부하 신호로 본다
+    @Value("${fastapi.gateway.limit.latency-threshold:180s}")
+    private Duration latencyThreshold;
+
+    @Value("${fastapi.gateway.circuit.window-size:20}")
+    private int circuitWindowSize;
+    @Value("${fastapi.gateway.circuit.minimum-calls:5}")
+    private int circuitMinimumCalls;
+    @Value("${fastapi.gateway.circuit.failure-rate-threshold:0.5}")
+    private double circuitFailureRateThreshold;
+    @Value("${fastapi.gateway.circuit.open-duration:60s}")
+    private Duration circuitOpenDuration;
+
+    @Value("${fastapi.gateway.deadline.per-attempt:360s}")
+    private Duration perAttemptDeadline;
+    @Value("${fastapi.gateway.deadline.total:30m}")
+    private Duration totalDeadline;
+
+    @Value("${fastapi.gateway.retry.max-attempts:3}")
+    private int maxAttempts;
+    @Value("${fastapi.gateway.retry.base-delay:500ms}")
+    private Duration retryBaseDelay;
+    @Value("${fastapi.gateway.retry.max-delay:10s}")
+    private Duration retryMaxDelay;
+
+    private AimdConcurrencyLimiter limiter;
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    void init() {
+        limiter = new AimdConcurrencyLimiter(initialLimit, minLimit, maxLimit, maxQueue, backoffRatio, latencyThreshold);
+        circuitBreaker = new CircuitBreaker(circuitWindowSize, circuitMinimumCalls, circuitFailureRateThreshold, circuitOpenDuration);
+
+        Gauge.builder("fastapi.gateway.limit", limiter, AimdConcurrencyLimiter::getLimit)
+                .description("현재 FastAPI 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("fastapi.gateway.inflight", limiter, AimdConcurrencyLimiter::getInFlight)
+                .description("진행 중인 FastAPI 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("fastapi.gateway.queue.depth", limiter, AimdConcurrencyLimiter::getQueueDepth)
+                .description("한도 대기 중인 FastAPI 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("fastapi.gateway.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * /fact-check 호출. 재시도 가능한 실패(타임아웃, 5xx, 429)는 지터 백오프로 재시도하고,
+     * 서킷이 열려 있거나 한도 대기가 초과되면 FastAPI를 호출하지 않고 즉시 실패한다.
+     * 시도마다 deadline.per-attempt, 전체에 deadline.total이 걸리며, 구독을 취소하면 진행 중인 HTTP 요청도 끊긴다.
+     *
+     * 응답 본문은 도착하는 대로 {@link FastApiResponseReader}가 파싱하므로 전체 본문을 버퍼링하지 않는다.
+     *
+     * @return 파싱된 응답. 최종 실패 시 {@link BusinessException}(FASTAPI_UNAVAILABLE / FASTAPI_INVALID_RESPONSE) 또는 4xx 응답 예외로 종료된다.
+     */
+    public Mono<FactCheckPayload> factCheck(String videoId, String youtubeUrl, String requestedBy) {
+        String requestJson;
+        try {
+            requestJson = om.writeValueAsString(new FactCheckRequest(youtubeUrl));
+        } catch (JsonProcessingException e) {
+            return Mono.error(new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "팩트체크 요청 직렬화 실패"));
+        }
+
+        return Mono.defer(() -> callOnce(videoId, requestedBy, requestJson))
+                .doOnError(FastApiGateway::isRetryable, e -> log.warn("FastAPI 호출 실패 videoId={}: {}", videoId, e.toString()))
+                .retryWhen(Retry.backoff(Math.max(0, maxAttempts - 1), retryBaseDelay)
+                        .maxBackoff(retryMaxDelay)
+                        .jitter(1.0)
+                        .filter(FastApiGateway::isRetryable)
+                        .onRetryExhaustedThrow((spec, signal) -> new BusinessException(ErrorCode.FASTAPI_UNAVAILABLE,
+                                "FastAPI 호출 최종 실패 videoId=" + videoId + ": " + signal.failure())))
+                .timeout(totalDeadline, Mono.error(() -> new BusinessException(ErrorCode.FASTAPI_UNAVAILABLE,
+                        "FastAPI 호출 데드라인 초과 videoId=" + videoId)));
+    }
+
+    private Mono<FactCheckPayload> callOnce(String videoId, String requestedBy, String requestJson) {
+        if (!circuitBreaker.tryAcquire()) {
+            record("rejected_circuit_open", 0);
+            return Mono.error(new BusinessException(ErrorCode.FASTAPI_UNAVAILABLE, "FastAPI 서킷 OPEN videoId=" + videoId));
+        }
+
+        CompletableFuture<Boolean> permit = limiter.acquire(maxQueueWait);
+        CallState state = new CallState();
+
+        // 취소 시 대기 중인 permit도 함께 취소되어 대기열에서 빠진다
+        return Mono.fromFuture(permit)
+                .flatMap(granted -> {
+                    if (!granted) {
+                        return Mono.error(new BusinessException(ErrorCode.FASTAPI_UNAVAILABLE,
+                                "FastAPI 동시성 한도 대기 초과 videoId=" + videoId));
+                    }
+                    state.start = System.nanoTime();
+                    return fastApiWebClient.post()
+                            .uri("/fact-check")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .header("X-Idempotency-Key", videoId)
+                            .header("X-Requested-By", requestedBy)
+                            .bodyValue(requestJson)
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class)
+                            .as(responseReader::read)
+                            .timeout(perAttemptDeadline)
+                            .doOnSuccess(r -> state.outcome = Outcome.SUCCESS)
+                            .doOnError(e -> state.outcome = outcomeOf(e));
+                })
+                .doFinally(signal -> release(permit, state));
+    }
+
+    // 성공/실패/취소 어느 경우든 정확히 한 번 한도와 서킷에 결과를 반영한다
+    private void release(CompletableFuture<Boolean> permit, CallState state) {
+        boolean granted = permit.isDone() && !permit.isCancelled() && Boolean.TRUE.equals(permit.getNow(false));
+        if (!granted) {
+            circuitBreaker.onIgnored();
+            record("rejected_limit", 0);
+            return;
+        }
+
+        long rtt = System.nanoTime() - state.start;
+        report(state.outcome, rtt, limiter, circuitBreaker);
+        record(state.outcome.name().toLowerCase(), rtt);
+    }
+
+    // 호출 결과를 한도와 서킷에 반영한다
+    static void report(Outcome outcome, long rttNanos, AimdConcurrencyLimiter limiter, CircuitBreaker circuitBreaker) {
+        switch (outcome) {
+            case SUCCESS -> {
+                limiter.onSuccess(rttNanos);
+                circuitBreaker.onSuccess();
+            }
+            case FAILURE -> {
+                limiter.onDropped();
+                circuitBreaker.onFailure();
+            }
+            case INVALID_RESPONSE -> {
+                // 200이어도 본문이 깨졌으면 FastAPI(또는 앞단 프록시) 이상으로 본다. 과부하 신호는 아니므로 한도는 그대로
+                limiter.onIgnored();
+                circuitBreaker.onFailure();
+            }
+            default -> {
+                // 4xx는 요청 자체의 문제, 취소는 결과 없음: FastAPI 상태 판단에서 제외
+                limiter.onIgnored();
+                circuitBreaker.onIgnored();
+            }
+        }
+    }
+
+    static Outcome outcomeOf(Throwable e) {
+        if (isRetryable(e)) return Outcome.FAILURE;
+        if (e instanceof BusinessException b && b.getErrorCode() == ErrorCode.FASTAPI_INVALID_RESPONSE) {
+            return Outcome.INVALID_RESPONSE;
+        }
+        return Outcome.CLIENT_ERROR;
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException r) {
+            int status = r.getStatusCode().value();
+            return status >= 500 || status == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        // 서킷 OPEN / 한도 대기 초과 / 응답 형식 오류: 재시도해도 FastAPI 부하만 늘어난다
+        if (e instanceof BusinessException) return false;
+        // 타임아웃, 연결 실패 등
+        return true;
+    }
+
+    private void record(String outcome, long rttNanos) {
+        Timer.builder("fastapi.gateway.calls")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(rttNanos, TimeUnit.NANOSECONDS);
+    }
+
+    enum Outcome { SUCCESS, FAILURE, INVALID_RESPONSE, CLIENT_ERROR, CANCELLED }
+
+    private static final class CallState {
+        private volatile long start;
+        private volatile Outcome outcome = Outcome.CANCELLED;
+    }
+}
@@ -2,6 +2,7 @@ package com.factseekerbackend.domain.youtube.controller;
 
 import com.factseekerbackend.domain.youtube.controller.dto.response.YoutubeSearchResponse;
 import com.factseekerbackend.domain.youtube.service.YoutubeService;
+import com.factseekerbackend.global.exception.BusinessException;
 import com.factseekerbackend.global.exception.ErrorCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -74,6 +75,10 @@ public class YoutubeController {
             log.info("[API] 인기 정치 영상 조회 요청 - size: {}", size);
             VideoListResponse response = popularPoliticsService.getPopularPolitics(size);
             return ResponseEntity.ok(ApiResponse.success("인기 정치 영상을 성공적으로 조회했습니다.", response));
+        } catch (BusinessException e) {
+            log.warn("[API] 인기 정치 영상 조회 불가: {}", e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus())
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("[API] 인기 정치 영상 조회 실패: {}", e.getMessage());
             return ResponseEntity.status(ErrorCode.VIDEO_NOT_FOUND.getStatus())
@@ -148,6 +153,10 @@ public class YoutubeController {
                         .body(ApiResponse.error(ErrorCode.VIDEO_NOT_FOUND.getMessage()));
             }
             return ResponseEntity.ok(ApiResponse.success("인기 정치 영상 단건을 성공적으로 조회했습니다.", item));
+        } catch (BusinessException e) {
+            log.warn("[API] 인기 정치 영상 조회 불가: {}", e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus())
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("[API] 인기 정치 영상 조회 실패: {}", e.getMessage());
             return ResponseEntity.status(ErrorCode.VIDEO_NOT_FOUND.getStatus())
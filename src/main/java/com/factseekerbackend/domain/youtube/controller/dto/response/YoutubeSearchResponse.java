@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import com.factseekerbackend.global.util.TextSanitizer;
+import com.factseekerbackend.global.util.YoutubeVideoKey;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -35,7 +36,7 @@ public class YoutubeSearchResponse {
         }
 
         return YoutubeSearchResponse.builder()
-                .url("https://www.youtube.com/watch?v=" + searchResult.getId().getVideoId())
+                .url(YoutubeVideoKey.toWatchUrl(searchResult.getId().getVideoId()))
                 .videoTitle(TextSanitizer.sanitizeTitle(searchResult.getSnippet().getTitle()))
                 .thumbnailUrl(thumbnailUrl)
                 .updatedAt(searchResult.getSnippet().getPublishedAt().toString())
@@ -0,0 +1,76 @@
+package com.factseekerbackend.domain.youtube.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채널별 YouTube 호출을 가상 스레드로 동시에 실행한다. 전체 소요 시간은 가장 느린 채널 하나 수준이며,
+ * 마감 시간 안에 끝나지 않았거나 실패한 채널은 결과에서 빠지고 나머지로 진행한다(부분 결과 허용).
+ */
+@Slf4j
+final class ChannelFanOut {
+
+    @FunctionalInterface
+    interface ChannelCall<T> {
+        T call(String channelId) throws Exception;
+    }
+
+    private ChannelFanOut() {
+    }
+
+    /** 성공한 채널의 결과만 입력 채널 순서대로 돌려준다. */
+    static <T> Map<String, T> run(List<String> channels, Duration deadline, ChannelCall<T> call) {
+        if (channels.isEmpty()) return Map.of();
+
+        List<Callable<T>> tasks = channels.stream()
+                .<Callable<T>>map(channelId -> () -> call.call(channelId))
+                .toList();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<T>> futures;
+        try {
+            // 마감 시간이 지나면 끝나지 않은 채널 호출은 취소된다
+            futures = executor.invokeAll(tasks, deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Map.of();
+        } finally {
+            // 취소된 호출의 소켓 read를 기다리지 않는다
+            executor.shutdownNow();
+        }
+
+        // 채널 순서를 유지해 결과가 실행 순서에 좌우되지 않게 한다
+        Map<String, T> results = new LinkedHashMap<>();
+        int failed = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            String channelId = channels.get(i);
+            try {
+                results.put(channelId, futures.get(i).get());
+            } catch (CancellationException e) {
+                failed++;
+                log.warn("채널 호출 마감 시간({}) 초과, 제외: {}", deadline, channelId);
+            } catch (ExecutionException e) {
+                failed++;
+                log.warn("채널 호출 실패, 제외: {} ({})", channelId, e.getCause().toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (failed > 0) {
+            log.info("화이트리스트 채널 부분 결과: 성공 {}/{}", channels.size() - failed, channels.size());
+        }
+        return results;
+    }
+}
@@ -1,24 +1,32 @@
 package com.factseekerbackend.domain.youtube.service;
 
+import com.factseekerbackend.domain.youtube.service.classifier.PoliticalTitlePreClassifier;
+import com.factseekerbackend.domain.youtube.service.classifier.TitleLabelSampleStore;
 import com.openai.client.OpenAIClient;
 import com.openai.models.ChatModel;
 import com.openai.models.responses.ResponseCreateParams;
 import com.openai.models.responses.StructuredResponse;
 import com.openai.models.responses.StructuredResponseCreateParams;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class OpenAiTitleFilterService {
     private final OpenAIClient client;
+    private final TitleLabelCache labelCache;
+    private final PoliticalTitlePreClassifier preClassifier;
+    private final TitleLabelSampleStore sampleStore;
     private static final ChatModel MODEL = ChatModel.GPT_4O; // 통일된 모델 선택
 
     // 공통 가이드(한국어): 단건/배치 모두 동일한 분류 기준을 사용
@@ -53,6 +61,18 @@ public class OpenAiTitleFilterService {
         - 반드시 지정된 JSON만 출력하고 다른 텍스트를 포함하지 마라.
     """;
 
+    // 분류 기준(가이드/출력 형식)이나 제목 키 정규화를 바꾸면 올린다. 라벨 캐시 키에 모델·가이드 해시와 함께 들어간다.
+    // v2: 제목 키 정규화를 TextSanitizer.normalizeKey로 옮김 (라벨 캐시/학습 샘플을 새 네임스페이스에서 다시 쌓는다)
+    private static final String PROMPT_REVISION = "v2";
+    private static final String LABEL_NAMESPACE = MODEL.asString() + ":" + PROMPT_REVISION + ":"
+            + TitleLabelCache.sha256(GUIDE_KO).substring(0, 12);
+
+    @PostConstruct
+    void bindPreClassifier() {
+        // 사전 분류기는 현재 분류 기준으로 LLM이 붙인 라벨로만 학습한다
+        preClassifier.useNamespace(LABEL_NAMESPACE);
+    }
+
     // Structured Outputs는 'object' 타입 JSON 스키마만 허용하므로,
     // 단일 라벨을 위한 최소 DTO를 내부에 정의한다.
     public static class Decision {
@@ -80,6 +100,9 @@ public class OpenAiTitleFilterService {
     }
 
     public boolean isPoliticalTitle(String title) {
+        String key = Objects.requireNonNullElse(title, "");
+        Boolean cached = labelCache.getAll(LABEL_NAMESPACE, List.of(key)).get(key);
+        if (cached != null) return cached;
         try {
             String prompt = buildTitlePrompt(title);
 
@@ -100,10 +123,13 @@ public class OpenAiTitleFilterService {
                     .asOutputText()
                     .getLabel();
 
-            return toBool(decision);
+            boolean political = toBool(decision);
+            labelCache.putAll(LABEL_NAMESPACE, Map.of(key, political));
+            sampleStore.record(LABEL_NAMESPACE, Map.of(key, political));
+            return political;
         } catch (Exception e) {
             log.error("OpenAI title gate error. title={}", title, e);
-            // 실패 시 필터 아웃(보수적)
+            // 실패 시 필터 아웃(보수적). 실패 결과는 캐시하지 않는다.
             return false;
         }
     }
@@ -124,11 +150,46 @@ public class OpenAiTitleFilterService {
     }
 
     /**
-     * 한 번의 요청으로 다수 제목을 분류한다. 입력 순서를 유지한다.
+     * 다수 제목을 분류한다. 입력 순서를 유지한다.
+     * 이미 분류한 제목은 라벨 캐시에서 답하고, 캐시 미스만 모아 한 번의 요청으로 모델에 묻는다.
      */
     public List<Boolean> arePoliticalTitles(List<String> titles) {
         List<Boolean> out = new ArrayList<>();
         if (titles == null || titles.isEmpty()) return out;
+
+        List<String> keys = titles.stream().map(t -> Objects.requireNonNullElse(t, "")).toList();
+        Map<String, Boolean> labels = new HashMap<>(labelCache.getAll(LABEL_NAMESPACE, keys));
+        List<String> misses = keys.stream().filter(t -> !labels.containsKey(t)).distinct().toList();
+
+        // 확실한 제목은 JVM 안에서 결정하고, 애매한 제목만 모델에 보낸다
+        List<String> uncertain = new ArrayList<>();
+        for (String t : misses) {
+            Optional<Boolean> local = preClassifier.classify(t);
+            if (local.isPresent()) {
+                labels.put(t, local.get());
+            } else {
+                uncertain.add(t);
+            }
+        }
+        if (!uncertain.isEmpty()) {
+            Map<String, Boolean> classified = classifyBatch(uncertain);
+            labelCache.putAll(LABEL_NAMESPACE, classified);
+            sampleStore.record(LABEL_NAMESPACE, classified);
+            labels.putAll(classified);
+        }
+        log.info("Title gate: {} titles, {} cached, {} decided locally, {} sent to model",
+                keys.size(), keys.size() - misses.size(), misses.size() - uncertain.size(), uncertain.size());
+
+        // 모델이 답하지 않았거나 호출이 실패한 제목은 false (보수적으로 필터 아웃)
+        for (String t : keys) {
+            out.add(labels.getOrDefault(t, Boolean.FALSE));
+        }
+        return out;
+    }
+
+    /** 한 번의 요청으로 제목들을 분류한다. 모델이 라벨을 준 제목만 담아 돌려주며, 실패 시 빈 맵. */
+    private Map<String, Boolean> classifyBatch(List<String> titles) {
+        Map<String, Boolean> labels = new HashMap<>();
         try {
             String prompt = buildBatchPrompt(titles);
 
@@ -148,24 +209,20 @@ public class OpenAiTitleFilterService {
                     .orElseThrow(() -> new IllegalStateException("No content"))
                     .asOutputText();
 
-            // 초기값 false로 채우고, 응답 인덱스에 따라 덮어쓰기
-            out.addAll(Collections.nCopies(titles.size(), Boolean.FALSE));
             if (bd != null && bd.getResults() != null) {
                 for (BatchDecision.Item it : bd.getResults()) {
                     if (it == null) continue;
                     Integer idx = it.getIndex();
-                    if (idx != null && idx >= 0 && idx < out.size()) {
-                        out.set(idx, toBool(it.getLabel()));
+                    if (idx != null && idx >= 0 && idx < titles.size()) {
+                        labels.put(titles.get(idx), toBool(it.getLabel()));
                     }
                 }
             }
         } catch (Exception e) {
-            log.error("OpenAI batch title gate error. count={}", (titles == null ? 0 : titles.size()), e);
-            // 실패 시 모두 false로 반환해 보수적으로 필터 아웃
-            out.clear();
-            out.addAll(Collections.nCopies(titles == null ? 0 : titles.size(), Boolean.FALSE));
+            log.error("OpenAI batch title gate error. count={}", titles.size(), e);
+            labels.clear();
         }
-        return out;
+        return labels;
     }
 
     private String buildBatchPrompt(List<String> titles) {
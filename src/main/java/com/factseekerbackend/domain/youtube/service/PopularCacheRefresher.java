@@ -1,26 +1,147 @@
 package com.factseekerbackend.domain.youtube.service;
 
+import com.factseekerbackend.domain.youtube.controller.dto.response.VideoDto;
+import com.factseekerbackend.domain.youtube.controller.dto.response.VideoListResponse;
+import com.factseekerbackend.domain.youtube.service.event.RankingChangedEvent;
+import com.factseekerbackend.domain.youtube.service.event.RankingEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인기 정치 영상 순위 갱신 (YouTube 검색 + OpenAI 필터 → 스냅샷 교체).
+ * 정기 갱신과 조회 시점의 백그라운드 재검증 모두 Redis 리스를 잡은 노드 한 곳에서만 실행된다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PopularCacheRefresher {
 
-    private final PopularPoliticsService popularPoliticsService;
+    private final YoutubeService youtubeService;
+    private final PopularRankingStore rankingStore;
+    private final RankingEventPublisher rankingEventPublisher;
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+    @Qualifier("popularRefreshExecutor")
+    private final Executor popularRefreshExecutor;
 
-    @Scheduled(cron = "0 0 0/6 * * *", zone = "Asia/Seoul")
+    // 스냅샷 보관 기간 = 응답으로 내보낼 수 있는 최대 staleness
+    @Value("${youtube.popular.max-staleness:24h}")
+    private Duration maxStaleness;
+
+    // 갱신 1회(채널 검색 + OpenAI 필터)보다 길어야 한다. 실패 시에는 리스를 풀지 않아 이 간격이 재시도 백오프가 된다.
+    @Value("${youtube.popular.refresh-lease:5m}")
+    private Duration refreshLease;
+
+    private static final String LEASE_KEY = "popular:politics:KR:refresh-lease";
+    private static final int DEFAULT_SIZE = 10;
 
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 이 노드에서 백그라운드 갱신이 이미 예약/진행 중이면 Redis에 리스를 묻지 않는다
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    @Scheduled(cron = "0 0 0/6 * * *", zone = "Asia/Seoul")
     public void refreshPopularPolitics() {
         try {
-            // Top10을 규칙적으로 갱신 (Redis 해시 + 동일 timestamp)
-            popularPoliticsService.refreshTopN(10);
+            // Top10을 규칙적으로 갱신 (스냅샷 교체). 다른 노드가 갱신 중이면 건너뛴다.
+            refreshUnderLease(DEFAULT_SIZE);
         } catch (Exception e) {
             // 스케줄러 스레드에 예외가 전파되지 않도록 로깅 후 종료
             log.warn("Popular politics cache refresh failed (will retry next schedule)", e);
         }
     }
+
+    /**
+     * 백그라운드 재검증을 요청한다. 호출 스레드는 기다리지 않으며, 클러스터 전체에서 한 번에 하나의 갱신만 실행된다.
+     */
+    public void requestRefresh(int size) {
+        if (!refreshing.compareAndSet(false, true)) return;
+        try {
+            popularRefreshExecutor.execute(() -> {
+                try {
+                    refreshUnderLease(Math.max(size, DEFAULT_SIZE));
+                } catch (Exception e) {
+                    log.warn("Background popular politics refresh failed: {}", e.toString());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private void refreshUnderLease(int size) throws IOException {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redis.opsForValue().setIfAbsent(LEASE_KEY, token, refreshLease);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("Popular politics refresh skipped: another node holds the refresh lease.");
+            return;
+        }
+
+        VideoListResponse refreshed = refreshTopN(size);
+        if (refreshed.data().isEmpty()) return;   // 실패: 리스 만료까지 재시도하지 않는다
+
+        try {
+            redis.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), token);
+        } catch (Exception e) {
+            log.debug("Popular politics refresh lease release failed: {}", e.getMessage());
+        }
+    }
+
+    public VideoListResponse refreshTopN(int size) throws IOException {
+        log.info("Fetching top {} popular politics videos from YouTube service.", size);
+        VideoListResponse fetchedDto = youtubeService.getPopularPoliticsTop10Resp(size);
+        List<VideoDto> videoList = (fetchedDto != null && fetchedDto.data() != null) ? fetchedDto.data() : List.of();
+
+        if (videoList.isEmpty()) {
+            log.warn("Fetched popular politics list from YouTube is empty. Cache will not be updated.");
+            return VideoListResponse.from(List.of(), nowSeoul());
+        }
+
+        log.info("Updating Redis cache with {} videos.", videoList.size());
+
+        PopularRankingStore.Snapshot previous = rankingStore.current();
+        String timestamp = fetchedDto.timestamp() != null ? fetchedDto.timestamp() : nowSeoul();
+        PopularRankingStore.Snapshot snapshot = new PopularRankingStore.Snapshot(
+                UUID.randomUUID().toString(), timestamp, System.currentTimeMillis(), List.copyOf(videoList));
+
+        // 새 버전으로 한 번에 교체 → 읽는 쪽은 이전 순위 또는 새 순위 중 하나만 본다
+        rankingStore.publish(snapshot, maxStaleness);
+
+        log.info("Successfully updated Redis cache for popular politics videos.");
+
+        // 순위 갱신 알림 → Top10 분석 등 후속 단계가 바로 시작된다
+        List<String> previousIds = previous != null ? previous.videoIds(previous.videos().size()) : List.of();
+        rankingEventPublisher.publish(RankingChangedEvent.of(
+                snapshot.version(), previousIds, snapshot.videoIds(videoList.size()), rankingEventPublisher.nodeId()));
+
+        return fetchedDto;
+    }
+
+    private String nowSeoul() {
+        return OffsetDateTime.now(ZoneId.of("Asia/Seoul")).toString();
+    }
 }
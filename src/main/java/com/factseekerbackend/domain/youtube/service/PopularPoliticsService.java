@@ -1,167 +1,73 @@
 package com.factseekerbackend.domain.youtube.service;
 
-import com.factseekerbackend.domain.youtube.controller.dto.response.VideoDto;
 import com.factseekerbackend.domain.youtube.controller.dto.response.VideoListResponse;
 import com.factseekerbackend.domain.youtube.controller.dto.response.VideoItemResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.factseekerbackend.global.exception.BusinessException;
+import com.factseekerbackend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.time.Duration;
-import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * 인기 정치 영상 조회 (stale-while-revalidate).
+ * 항상 Redis의 마지막 스냅샷으로 응답하고, 오래되었거나 부족하면 백그라운드 갱신만 요청한다.
+ * 조회 요청이 YouTube/OpenAI 호출을 기다리는 일은 없으며, max-staleness를 넘긴 스냅샷은 내보내지 않는다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PopularPoliticsService {
 
-    private final YoutubeService youtubeService;
-    private final ObjectMapper objectMapper;
+    private final PopularRankingStore rankingStore;
+    private final PopularCacheRefresher cacheRefresher;
 
-    @Qualifier("cacheRedisTemplate")
-    private final RedisTemplate<String, Object> cacheRedis;
+    // 이 시간이 지나면 스냅샷을 그대로 내보내면서 백그라운드로 갱신한다
+    @Value("${youtube.popular.fresh-for:70m}")
+    private Duration freshFor;
 
-    private static final String KEY_PREFIX = "popular:politics:KR";
-    private static final Duration TTL = Duration.ofMinutes(70);
+    // 이 시간이 지난 스냅샷은 응답하지 않는다
+    @Value("${youtube.popular.max-staleness:24h}")
+    private Duration maxStaleness;
 
     public VideoListResponse getPopularPolitics(int size) {
-        List<VideoDto> data = readFromRedis(size);
-        String timestamp = getTimestampFromRedis();
-
-        if (data.size() < size || timestamp == null) {
-            log.info("Popular politics cache miss or incomplete. Refreshing cache for size: {}", size);
-            try {
-                VideoListResponse refreshedData = refreshTopN(size);
-                data = refreshedData.data();
-                timestamp = refreshedData.timestamp();
-            } catch (Exception e) {
-                log.error("Failed to refresh popular politics cache. Returning empty list.", e);
-                return VideoListResponse.from(List.of(), nowSeoul());
-            }
-        }
-
-        return VideoListResponse.from(data, timestamp);
+        PopularRankingStore.Snapshot snapshot = servableSnapshot(size);
+        int n = Math.max(0, Math.min(size, snapshot.videos().size()));
+        return VideoListResponse.from(snapshot.videos().subList(0, n), snapshot.timestamp());
     }
 
-    public VideoItemResponse getPopularPoliticsByRank(int rank) throws IOException {
+    public VideoItemResponse getPopularPoliticsByRank(int rank) {
         if (rank < 1) {
             throw new IllegalArgumentException("rank must be >= 1");
         }
 
-        String key = rankKey(rank);
-        HashOperations<String, Object, Object> hashOps = cacheRedis.opsForHash();
-        Map<Object, Object> videoMap = hashOps.entries(key);
-
-        if (videoMap.isEmpty() || videoMap.get("videoId") == null) {
-            int refreshSize = Math.max(rank, 10);
-            log.info("Rank {} not found in cache. Refreshing top {}.", rank, refreshSize);
-            refreshTopN(refreshSize);
-            videoMap = hashOps.entries(key);
-        }
-
-        if (videoMap.isEmpty() || videoMap.get("videoId") == null) {
-            log.warn("Rank {} still not available after refresh.", rank);
-            return null;
-        }
-
-        try {
-            VideoDto dto = objectMapper.convertValue(videoMap, VideoDto.class);
-            String updatedAt = (String) videoMap.getOrDefault("updatedAt", nowSeoul());
-            return VideoItemResponse.from(dto, updatedAt, rank);
-        } catch (IllegalArgumentException e) {
-            log.error("Failed to convert Redis hash to VideoDto for key: {}", key, e);
+        PopularRankingStore.Snapshot snapshot = servableSnapshot(rank);
+        if (snapshot.videos().size() < rank) {
+            log.warn("Rank {} not available in the current snapshot.", rank);
             return null;
         }
+        return VideoItemResponse.from(snapshot.videos().get(rank - 1), snapshot.timestamp(), rank);
     }
 
-    public VideoListResponse refreshTopN(int size) throws IOException {
-        log.info("Fetching top {} popular politics videos from YouTube service.", size);
-        VideoListResponse fetchedDto = youtubeService.getPopularPoliticsTop10Resp(size);
-        List<VideoDto> videoList = (fetchedDto != null && fetchedDto.data() != null) ? fetchedDto.data() : List.of();
-
-        if (videoList.isEmpty()) {
-            log.warn("Fetched popular politics list from YouTube is empty. Cache will not be updated.");
-            return VideoListResponse.from(List.of(), nowSeoul());
-        }
-
-        log.info("Updating Redis cache with {} videos.", videoList.size());
-
-        HashOperations<String, Object, Object> hashOps = cacheRedis.opsForHash();
-
-        for (int i = 0; i < videoList.size(); i++) {
-            int rank = i + 1;
-            VideoDto video = videoList.get(i);
-            String key = rankKey(rank);
+    private PopularRankingStore.Snapshot servableSnapshot(int size) {
+        PopularRankingStore.Snapshot snapshot = rankingStore.current();
 
-            Map<String, Object> videoMap = Map.of(
-                    "videoId", video.videoId() != null ? video.videoId() : "",
-                    "videoTitle", video.videoTitle() != null ? video.videoTitle() : "",
-                    "thumbnailUrl", video.thumbnailUrl() != null ? video.thumbnailUrl() : "",
-                    "updatedAt", fetchedDto.timestamp() != null ? fetchedDto.timestamp() : nowSeoul(),
-                    "channelId", video.channelId() != null ? video.channelId() : "",
-                    "channelTitle", video.channelTitle() != null ? video.channelTitle() : ""
-            );
-
-            hashOps.putAll(key, videoMap);
-            cacheRedis.expire(key, TTL);
-        }
-
-        for (int i = videoList.size(); i < 20; i++) {
-            int rank = i + 1;
-            cacheRedis.delete(rankKey(rank));
+        if (snapshot == null) {
+            log.info("Popular politics snapshot missing. Requesting background refresh for size: {}", size);
+            cacheRefresher.requestRefresh(size);
+            throw new BusinessException(ErrorCode.POPULAR_VIDEOS_NOT_READY, ErrorCode.POPULAR_VIDEOS_NOT_READY.getMessage());
         }
 
-        log.info("Successfully updated Redis cache for popular politics videos.");
-
-        return fetchedDto;
-    }
-
-    private List<VideoDto> readFromRedis(int size) {
-        HashOperations<String, Object, Object> hashOps = cacheRedis.opsForHash();
-        List<VideoDto> data = new ArrayList<>(size);
-
-        for (int rank = 1; rank <= size; rank++) {
-            String key = rankKey(rank);
-            Map<Object, Object> videoMap = hashOps.entries(key);
-
-            if (!videoMap.isEmpty() && videoMap.get("videoId") != null) {
-                try {
-                    VideoDto dto = objectMapper.convertValue(videoMap, VideoDto.class);
-                    data.add(dto);
-                } catch (IllegalArgumentException e) {
-                    log.error("Failed to convert Redis hash to VideoDto for key: {}", key, e);
-                }
-            } else {
-                break;
-            }
+        Duration age = snapshot.age();
+        if (age.compareTo(freshFor) > 0 || snapshot.videos().size() < size) {
+            cacheRefresher.requestRefresh(size);
         }
-        return data;
-    }
-
-    private String getTimestampFromRedis() {
-        String rankOneKey = rankKey(1);
-        Long ttl = cacheRedis.getExpire(rankOneKey, TimeUnit.SECONDS);
-        if (ttl > 0) {
-            return (String) cacheRedis.opsForHash().get(rankOneKey, "updatedAt");
+        if (age.compareTo(maxStaleness) > 0) {
+            log.warn("Popular politics snapshot too stale to serve (age={}).", age);
+            throw new BusinessException(ErrorCode.POPULAR_VIDEOS_NOT_READY, ErrorCode.POPULAR_VIDEOS_NOT_READY.getMessage());
         }
-        return null;
-    }
-
-    private String rankKey(int rank) {
-        return KEY_PREFIX + ":rank:" + rank;
-    }
-
-    private String nowSeoul() {
-        return OffsetDateTime.now(ZoneId.of("Asia/Seoul")).toString();
+        return snapshot;
     }
 }
@@ -0,0 +1,86 @@
+package com.factseekerbackend.domain.youtube.service;
+
+import com.factseekerbackend.domain.youtube.service.event.RankingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 노드 내 Top-N 순위 캐시 (videoId → 순위). 멤버십 확인은 네트워크 I/O 없이 해시 조회로 끝난다.
+ * 순위 갱신 알림({@link RankingChangedEvent}, 다른 노드 갱신은 Redis pub/sub로 전달)을 받으면 즉시 교체되고,
+ * 알림을 놓친 경우를 대비해 ttl이 지나면 Redis 스냅샷에서 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularRankingCache {
+
+    private final PopularRankingStore rankingStore;
+
+    @Value("${youtube.popular.membership-ttl:60s}")
+    private Duration ttl;
+
+    private record Entry(Map<String, Integer> ranks, long loadedAt) {
+
+        static Entry of(List<String> rankedIds) {
+            Map<String, Integer> ranks = new HashMap<>();
+            for (int i = 0; i < rankedIds.size(); i++) {
+                ranks.putIfAbsent(rankedIds.get(i), i + 1);
+            }
+            return new Entry(Map.copyOf(ranks), System.nanoTime());
+        }
+    }
+
+    private volatile Entry entry;
+
+    @EventListener
+    public void onRankingChanged(RankingChangedEvent event) {
+        entry = Entry.of(event.ranked());
+    }
+
+    /** 1부터 시작하는 순위. 순위에 없으면 -1. */
+    public int rankOf(String videoId) {
+        if (videoId == null) return -1;
+        return current().ranks().getOrDefault(videoId, -1);
+    }
+
+    public boolean isInTopN(String videoId, int n) {
+        int rank = rankOf(videoId);
+        return rank >= 1 && rank <= n;
+    }
+
+    public Set<String> topIds(int n) {
+        return current().ranks().entrySet().stream()
+                .filter(e -> e.getValue() <= n)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private Entry current() {
+        Entry e = entry;
+        if (e != null && System.nanoTime() - e.loadedAt() < ttl.toNanos()) return e;
+        synchronized (this) {
+            e = entry;
+            if (e != null && System.nanoTime() - e.loadedAt() < ttl.toNanos()) return e;
+            try {
+                PopularRankingStore.Snapshot snapshot = rankingStore.current();
+                e = Entry.of(snapshot != null ? snapshot.videoIds(snapshot.videos().size()) : List.of());
+            } catch (Exception ex) {
+                // Redis 장애 시 마지막 순위를 계속 쓰고 ttl 뒤에 다시 시도한다
+                log.warn("Failed to reload popular ranking cache: {}", ex.toString());
+                e = (entry != null) ? new Entry(entry.ranks(), System.nanoTime()) : Entry.of(List.of());
+            }
+            entry = e;
+            return e;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.factseekerbackend.domain.youtube.service;
+
+import com.factseekerbackend.domain.youtube.controller.dto.response.VideoDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 인기 정치 영상 순위를 버전별 스냅샷으로 Redis에 저장한다.
+ * 순위 전체를 JSON 하나로 새 버전 키에 먼저 쓰고 그다음 현재 버전 포인터를 바꾸므로,
+ * 읽는 쪽은 포인터 → 스냅샷 순서로 읽어 항상 한 시점의 순위 전체를 받는다 (이전/새 순위가 섞이지 않는다).
+ * 두 키는 서로 다른 슬롯에 있을 수 있어 스크립트로 묶지 않는다 (Redis Cluster 호환).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularRankingStore {
+
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+    private final ObjectMapper om;
+
+    private static final String KEY_PREFIX = "popular:politics:KR";
+    private static final String CURRENT_KEY = KEY_PREFIX + ":current";
+    private static final String SNAPSHOT_KEY_PREFIX = KEY_PREFIX + ":snapshot:";
+
+    /**
+     * 순위 스냅샷.
+     *
+     * @param version   스냅샷 식별자 (갱신마다 새로 발급)
+     * @param timestamp 순위를 가져온 시각 (응답의 timestamp/updatedAt)
+     * @param refreshedAt 스냅샷을 만든 시각 (epoch millis, 신선도 판단용)
+     * @param videos    1위부터 순서대로
+     */
+    public record Snapshot(String version, String timestamp, long refreshedAt, List<VideoDto> videos) {
+
+        public Duration age() {
+            return Duration.ofMillis(Math.max(0, System.currentTimeMillis() - refreshedAt));
+        }
+
+        public List<String> videoIds(int n) {
+            return videos.stream()
+                    .limit(n)
+                    .map(VideoDto::videoId)
+                    .filter(id -> id != null && !id.isBlank())
+                    .distinct()
+                    .toList();
+        }
+    }
+
+    /** 현재 스냅샷. 없거나 읽을 수 없으면 null. */
+    public Snapshot current() {
+        String version = redis.opsForValue().get(CURRENT_KEY);
+        if (version == null) return null;
+        // 이전 버전 스냅샷도 TTL 동안 남아 있으므로 사이에 포인터가 바뀌어도 읽은 버전 그대로 받는다
+        String json = redis.opsForValue().get(SNAPSHOT_KEY_PREFIX + version);
+        if (json == null) return null;
+        try {
+            return om.readValue(json, Snapshot.class);
+        } catch (Exception e) {
+            log.error("Failed to parse popular politics snapshot.", e);
+            return null;
+        }
+    }
+
+    public void publish(Snapshot snapshot, Duration ttl) throws JsonProcessingException {
+        // 스냅샷을 먼저 써야 포인터를 읽은 쪽이 항상 존재하는 스냅샷을 가리킨다
+        redis.opsForValue().set(SNAPSHOT_KEY_PREFIX + snapshot.version(), om.writeValueAsString(snapshot), ttl);
+        redis.opsForValue().set(CURRENT_KEY, snapshot.version(), ttl);
+    }
+}
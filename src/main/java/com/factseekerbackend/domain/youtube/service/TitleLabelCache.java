@@ -0,0 +1,119 @@
+package com.factseekerbackend.domain.youtube.service;
+
+import com.factseekerbackend.global.util.TextSanitizer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 제목 분류 결과(정치 여부) 캐시. 정규화한 제목의 해시를 키로 쓰므로 같은 제목은 한 번만 모델에 묻는다.
+ * 노드 내 LRU(Caffeine) 앞단 + Redis(전 노드 공유) 2단 구조이며,
+ * 키에 모델/프롬프트 버전(namespace)이 들어가 있어 모델이나 가이드를 바꾸면 이전 라벨은 자연히 쓰이지 않는다.
+ */
+@Slf4j
+@Component
+public class TitleLabelCache {
+
+    private static final String KEY_PREFIX = "title-label:";
+    private static final String POLITICS = "1";
+    private static final String NOT_POLITICS = "0";
+
+    private final StringRedisTemplate redis;
+    private final Duration ttl;
+    private final Cache<String, Boolean> local;
+
+    public TitleLabelCache(@Qualifier("cacheStringRedisTemplate") StringRedisTemplate redis,
+                           @Value("${youtube.title-filter.cache.ttl:30d}") Duration ttl,
+                           @Value("${youtube.title-filter.cache.local-max-size:20000}") long localMaxSize) {
+        this.redis = redis;
+        this.ttl = ttl;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /** 캐시에 있는 제목의 라벨만 돌려준다 (키: 원래 제목). */
+    public Map<String, Boolean> getAll(String namespace, Collection<String> titles) {
+        Map<String, Boolean> hits = new HashMap<>();
+        Map<String, List<String>> redisKeys = new LinkedHashMap<>();   // redis key → 같은 키로 정규화되는 제목들
+
+        for (String title : titles) {
+            String key = key(namespace, title);
+            Boolean label = local.getIfPresent(key);
+            if (label != null) {
+                hits.put(title, label);
+            } else {
+                redisKeys.computeIfAbsent(key, k -> new ArrayList<>()).add(title);
+            }
+        }
+        if (redisKeys.isEmpty()) return hits;
+
+        try {
+            List<String> keys = new ArrayList<>(redisKeys.keySet());
+            List<String> values = redis.opsForValue().multiGet(keys);
+            if (values == null) return hits;
+            for (int i = 0; i < keys.size(); i++) {
+                String v = values.get(i);
+                if (v == null) continue;
+                boolean label = POLITICS.equals(v);
+                local.put(keys.get(i), label);
+                redisKeys.get(keys.get(i)).forEach(title -> hits.put(title, label));
+            }
+        } catch (Exception e) {
+            // Redis 장애 시에는 캐시 미스로 보고 모델에 묻는다
+            log.warn("제목 분류 캐시 조회 실패: {}", e.toString());
+        }
+        return hits;
+    }
+
+    public void putAll(String namespace, Map<String, Boolean> labels) {
+        if (labels.isEmpty()) return;
+        Map<String, String> entries = new HashMap<>();
+        labels.forEach((title, label) -> {
+            String key = key(namespace, title);
+            local.put(key, label);
+            entries.put(key, label ? POLITICS : NOT_POLITICS);
+        });
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                entries.forEach((k, v) -> conn.setEx(k, ttl.toSeconds(), v));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("제목 분류 캐시 저장 실패: {}", e.toString());
+        }
+    }
+
+    private static String key(String namespace, String title) {
+        return KEY_PREFIX + namespace + ":" + sha256(TextSanitizer.normalizeKey(title));
+    }
+
+    static String sha256(String value) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
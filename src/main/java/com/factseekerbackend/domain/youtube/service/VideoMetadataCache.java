@@ -0,0 +1,256 @@
+package com.factseekerbackend.domain.youtube.service;
+
+import com.factseekerbackend.domain.youtube.controller.dto.response.VideoDto;
+import com.factseekerbackend.global.util.YoutubeVideoKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.api.services.youtube.YouTube;
+import com.google.api.services.youtube.model.Video;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 영상 메타데이터({@link VideoDto}) 캐시. 노드 내 Caffeine(L1) + Redis(L2, 전 노드 공유) 2단 구조이다.
+ *
+ * <ul>
+ *   <li>삭제/비공개 영상도 짧은 TTL로 "없음"을 캐시해 같은 ID를 반복 조회하지 않는다.</li>
+ *   <li>L1 미스는 바로 조회하지 않고 짧은 창(batch-window) 동안 모아 Redis는 multiGet 한 번,
+ *       YouTube는 videos.list 한 번(최대 50개, 1 unit)으로 해결한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class VideoMetadataCache {
+
+    private static final String KEY_PREFIX = "youtube:video:";
+    private static final String MISSING = "-";
+    private static final int MAX_BATCH = 50;
+    private static final long WAIT_SECONDS = 20;   // YouTube connect(5s) + read(8s)보다 길게
+
+    // VideoDto에 필요한 필드만 받는다
+    private static final String VIDEO_DTO_FIELDS =
+            "items(id,snippet(title,channelId,channelTitle,thumbnails(default/url,high/url)))";
+
+    private final YouTube youTube;
+    private final YoutubeQuotaBudget quotaBudget;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper om;
+    private final String apiKey;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Duration batchWindow;
+    private final Cache<String, Optional<VideoDto>> local;
+
+    private final ScheduledExecutorService flushTimer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("VideoMetaBatch").daemon().factory());
+    private final Object lock = new Object();
+    private Map<String, CompletableFuture<Optional<VideoDto>>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    public VideoMetadataCache(YouTube youTube,
+                              YoutubeQuotaBudget quotaBudget,
+                              @Qualifier("cacheStringRedisTemplate") StringRedisTemplate redis,
+                              ObjectMapper om,
+                              @Value("${youtube.api.key}") String apiKey,
+                              @Value("${youtube.video-cache.ttl:12h}") Duration ttl,
+                              @Value("${youtube.video-cache.negative-ttl:1h}") Duration negativeTtl,
+                              @Value("${youtube.video-cache.local-ttl:30m}") Duration localTtl,
+                              @Value("${youtube.video-cache.local-max-size:10000}") long localMaxSize,
+                              @Value("${youtube.video-cache.batch-window:20ms}") Duration batchWindow) {
+        this.youTube = youTube;
+        this.quotaBudget = quotaBudget;
+        this.redis = redis;
+        this.om = om;
+        this.apiKey = apiKey;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.batchWindow = batchWindow;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    /** 없는(삭제/비공개) 영상이나 영상 ID/주소가 아닌 값이면 null */
+    public VideoDto get(String videoId) throws IOException {
+        String id = YoutubeVideoKey.extractId(videoId);
+        return id == null ? null : getAll(List.of(id)).get(id);
+    }
+
+    /**
+     * 찾은 영상만 정규화된 영상 ID를 키로 담아 돌려준다. 미스는 모두 한 번의 배치에 실린다.
+     * 영상 ID/주소가 아닌 값은 YouTube에 보내지 않고 건너뛴다.
+     */
+    public Map<String, VideoDto> getAll(Collection<String> videoIds) throws IOException {
+        Map<String, VideoDto> out = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Optional<VideoDto>>> waiting = new LinkedHashMap<>();
+        for (String raw : videoIds) {
+            String id = YoutubeVideoKey.extractId(raw);
+            if (id == null || out.containsKey(id) || waiting.containsKey(id)) continue;
+            Optional<VideoDto> hit = local.getIfPresent(id);
+            if (hit != null) {
+                hit.ifPresent(dto -> out.put(id, dto));
+            } else {
+                waiting.put(id, enqueue(id));
+            }
+        }
+
+        for (Map.Entry<String, CompletableFuture<Optional<VideoDto>>> e : waiting.entrySet()) {
+            try {
+                e.getValue().get(WAIT_SECONDS, TimeUnit.SECONDS).ifPresent(dto -> out.put(e.getKey(), dto));
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof IOException io) throw io;
+                throw new IOException("영상 메타데이터 조회 실패: " + e.getKey(), ex.getCause());
+            } catch (TimeoutException ex) {
+                throw new IOException("영상 메타데이터 조회 시간 초과: " + e.getKey(), ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("영상 메타데이터 조회 중단: " + e.getKey(), ex);
+            }
+        }
+        return out;
+    }
+
+    private CompletableFuture<Optional<VideoDto>> enqueue(String videoId) {
+        synchronized (lock) {
+            CompletableFuture<Optional<VideoDto>> existing = pending.get(videoId);
+            if (existing != null) return existing;
+
+            CompletableFuture<Optional<VideoDto>> future = new CompletableFuture<>();
+            pending.put(videoId, future);
+            if (pending.size() >= MAX_BATCH) {
+                Map<String, CompletableFuture<Optional<VideoDto>>> batch = takePending();
+                Thread.ofVirtual().start(() -> load(batch));
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                flushTimer.schedule(this::flush, batchWindow.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return future;
+        }
+    }
+
+    private void flush() {
+        Map<String, CompletableFuture<Optional<VideoDto>>> batch;
+        synchronized (lock) {
+            flushScheduled = false;
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            // 타이머 스레드는 모으기만 하고, 블로킹 조회는 가상 스레드에서 한다
+            Thread.ofVirtual().start(() -> load(batch));
+        }
+    }
+
+    private Map<String, CompletableFuture<Optional<VideoDto>>> takePending() {
+        Map<String, CompletableFuture<Optional<VideoDto>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void load(Map<String, CompletableFuture<Optional<VideoDto>>> batch) {
+        try {
+            List<String> ids = new ArrayList<>(batch.keySet());
+            Map<String, Optional<VideoDto>> resolved = readShared(ids);
+
+            List<String> misses = ids.stream().filter(id -> !resolved.containsKey(id)).toList();
+            if (!misses.isEmpty()) {
+                Map<String, Optional<VideoDto>> fetched = fetch(misses);
+                writeShared(fetched);
+                resolved.putAll(fetched);
+            }
+
+            resolved.forEach((id, value) -> {
+                local.put(id, value);
+                batch.get(id).complete(value);
+            });
+        } catch (Exception e) {
+            log.warn("영상 메타데이터 배치 조회 실패 ({}건): {}", batch.size(), e.toString());
+            batch.values().forEach(f -> f.completeExceptionally(e));
+        }
+    }
+
+    /** videos.list 한 번으로 조회한다. 응답에 없는 ID는 삭제/비공개로 보고 "없음"으로 기록한다. */
+    private Map<String, Optional<VideoDto>> fetch(List<String> ids) throws IOException {
+        if (!quotaBudget.tryAcquire(YoutubeQuotaBudget.VIDEOS_LIST_COST)) {
+            throw new IOException("YouTube 쿼터 예산 부족");
+        }
+        YouTube.Videos.List req = youTube.videos().list(List.of("snippet"));
+        req.setKey(apiKey);
+        req.setId(ids);
+        req.setFields(VIDEO_DTO_FIELDS);
+        List<Video> items = req.execute().getItems();
+
+        Map<String, Optional<VideoDto>> out = new HashMap<>();
+        ids.forEach(id -> out.put(id, Optional.empty()));
+        if (items != null) {
+            for (Video v : items) {
+                if (v.getId() != null && out.containsKey(v.getId())) {
+                    out.put(v.getId(), Optional.of(VideoDto.from(v)));
+                }
+            }
+        }
+        return out;
+    }
+
+    private Map<String, Optional<VideoDto>> readShared(List<String> ids) {
+        Map<String, Optional<VideoDto>> out = new HashMap<>();
+        try {
+            List<String> values = redis.opsForValue().multiGet(ids.stream().map(id -> KEY_PREFIX + id).toList());
+            if (values == null) return out;
+            for (int i = 0; i < ids.size(); i++) {
+                String v = values.get(i);
+                if (v == null) continue;
+                out.put(ids.get(i), MISSING.equals(v) ? Optional.empty() : Optional.of(om.readValue(v, VideoDto.class)));
+            }
+        } catch (Exception e) {
+            // Redis 장애 시에는 전부 미스로 보고 YouTube에서 조회한다
+            log.debug("영상 메타데이터 공유 캐시 조회 실패: {}", e.getMessage());
+        }
+        return out;
+    }
+
+    private void writeShared(Map<String, Optional<VideoDto>> values) {
+        try {
+            Map<String, String> json = new HashMap<>();
+            for (Map.Entry<String, Optional<VideoDto>> e : values.entrySet()) {
+                json.put(e.getKey(), e.getValue().isPresent() ? om.writeValueAsString(e.getValue().get()) : MISSING);
+            }
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                json.forEach((id, v) -> conn.setEx(KEY_PREFIX + id,
+                        (MISSING.equals(v) ? negativeTtl : ttl).toSeconds(), v));
+                return null;
+            });
+        } catch (Exception e) {
+            log.debug("영상 메타데이터 공유 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushTimer.shutdownNow();
+    }
+}
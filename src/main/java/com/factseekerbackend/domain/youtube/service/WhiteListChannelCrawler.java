@@ -0,0 +1,183 @@
+package com.factseekerbackend.domain.youtube.service;
+
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.youtube.YouTube;
+import com.google.api.services.youtube.model.Channel;
+import com.google.api.services.youtube.model.ChannelListResponse;
+import com.google.api.services.youtube.model.PlaylistItem;
+import com.google.api.services.youtube.model.PlaylistItemListResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 화이트리스트 채널의 업로드 재생목록을 증분 크롤링한다.
+ *
+ * <p>채널마다 업로드 재생목록 ID를 한 번만 조회해 두고, 이후에는 playlistItems.list(1 unit)를 ETag와 함께 호출한다.
+ * 변경이 없으면 304로 끝나고, 변경이 있으면 채널별 high-water mark(마지막으로 본 게시 시각)보다 새로운 영상만 기록한다.
+ * 채널당 search.list(100 units)를 쓰던 방식보다 쿼터가 100배 가까이 적게 든다.
+ *
+ * <p>상태는 모두 Redis에 있어 어느 노드가 갱신하든 이어서 크롤링한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WhiteListChannelCrawler {
+
+    public static final int CHANNELS_LIST_COST = 1;
+    public static final int PLAYLIST_ITEMS_LIST_COST = 1;
+
+    private static final String UPLOADS_KEY = "youtube:crawler:uploads";   // channelId → 업로드 재생목록 ID
+    private static final String ETAG_KEY = "youtube:crawler:etag";         // channelId → 첫 페이지 ETag
+    private static final String HWM_KEY = "youtube:crawler:hwm";           // channelId → 마지막으로 본 게시 시각(epoch ms)
+    private static final String RECENT_KEY = "youtube:crawler:recent";     // videoId, score = 게시 시각(epoch ms)
+
+    // 인기 순위는 최근 하루 업로드만 보므로 그보다 조금 넉넉히 보관한다
+    private static final Duration RECENT_RETENTION = Duration.ofDays(2);
+    private static final int CHANNELS_PER_REQUEST = 50;
+
+    private final YouTube youTube;
+    private final YoutubeQuotaBudget quotaBudget;
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+
+    @Value("${youtube.api.key}")
+    private String apiKey;
+
+    // 한 채널에서 high-water mark까지 따라갈 최대 페이지 수 (페이지당 50개)
+    @Value("${youtube.crawler.max-pages:3}")
+    private int maxPages;
+
+    /**
+     * 모든 채널을 증분 크롤링한 뒤, since 이후 게시된 영상 ID를 최신순으로 돌려준다.
+     * 크롤링이 실패하거나 마감 시간을 넘긴 채널은 이전 크롤링까지 기록된 영상만 포함된다.
+     */
+    public Set<String> recentVideoIds(List<String> channels, OffsetDateTime since, Duration deadline) {
+        Map<String, String> uploads = resolveUploadsPlaylists(channels);
+
+        List<String> crawlable = new ArrayList<>();
+        for (String channelId : channels) {
+            if (!uploads.containsKey(channelId)) continue;
+            if (!quotaBudget.tryAcquire(PLAYLIST_ITEMS_LIST_COST)) break;
+            crawlable.add(channelId);
+        }
+        if (crawlable.size() < channels.size()) {
+            log.warn("화이트리스트 채널 {}/{}개만 크롤링합니다 (재생목록 미확인 또는 쿼터 부족).", crawlable.size(), channels.size());
+        }
+
+        Map<String, Integer> added = ChannelFanOut.run(crawlable, deadline,
+                channelId -> crawlChannel(channelId, uploads.get(channelId)));
+        log.info("화이트리스트 채널 크롤링: {}개 채널, 새 영상 {}개",
+                added.size(), added.values().stream().mapToInt(Integer::intValue).sum());
+
+        long now = System.currentTimeMillis();
+        redis.opsForZSet().removeRangeByScore(RECENT_KEY, 0, now - RECENT_RETENTION.toMillis());
+        Set<String> ids = redis.opsForZSet().reverseRangeByScore(RECENT_KEY, since.toInstant().toEpochMilli(), Double.MAX_VALUE);
+        return ids != null ? new LinkedHashSet<>(ids) : Set.of();
+    }
+
+    /** 업로드 재생목록 ID는 바뀌지 않으므로 처음 보는 채널만 channels.list로 조회한다 (50개씩 1 unit). */
+    private Map<String, String> resolveUploadsPlaylists(List<String> channels) {
+        Map<String, String> known = new HashMap<>();
+        redis.<String, String>opsForHash().entries(UPLOADS_KEY).forEach(known::put);
+
+        List<String> missing = channels.stream().filter(c -> !known.containsKey(c)).toList();
+        for (int i = 0; i < missing.size(); i += CHANNELS_PER_REQUEST) {
+            if (!quotaBudget.tryAcquire(CHANNELS_LIST_COST)) break;
+            List<String> slice = missing.subList(i, Math.min(missing.size(), i + CHANNELS_PER_REQUEST));
+            try {
+                YouTube.Channels.List req = youTube.channels().list(List.of("contentDetails"));
+                req.setKey(apiKey);
+                req.setId(slice);
+                req.setMaxResults((long) CHANNELS_PER_REQUEST);
+                req.setFields("items(id,contentDetails/relatedPlaylists/uploads)");
+                ChannelListResponse resp = req.execute();
+                if (resp.getItems() == null) continue;
+                for (Channel ch : resp.getItems()) {
+                    if (ch.getContentDetails() == null || ch.getContentDetails().getRelatedPlaylists() == null) continue;
+                    String playlistId = ch.getContentDetails().getRelatedPlaylists().getUploads();
+                    if (playlistId == null) continue;
+                    known.put(ch.getId(), playlistId);
+                    redis.opsForHash().put(UPLOADS_KEY, ch.getId(), playlistId);
+                }
+            } catch (IOException e) {
+                log.warn("업로드 재생목록 조회 실패 ({}개 채널): {}", slice.size(), e.toString());
+            }
+        }
+        return known;
+    }
+
+    /** 한 채널의 새 업로드를 기록하고 새로 기록한 영상 수를 돌려준다. */
+    private int crawlChannel(String channelId, String playlistId) throws IOException {
+        Object storedHwm = redis.opsForHash().get(HWM_KEY, channelId);
+        long highWaterMark = storedHwm != null ? Long.parseLong(storedHwm.toString()) : 0L;
+        // high-water mark가 없으면(첫 크롤링 또는 상태 유실) ETag를 쓰지 않고 처음부터 받는다
+        Object etag = highWaterMark > 0 ? redis.opsForHash().get(ETAG_KEY, channelId) : null;
+        long floor = Math.max(highWaterMark, System.currentTimeMillis() - RECENT_RETENTION.toMillis());
+
+        long newest = highWaterMark;
+        int added = 0;
+        String newEtag = null;
+        String pageToken = null;
+        for (int page = 0; page < maxPages; page++) {
+            if (page > 0 && !quotaBudget.tryAcquire(PLAYLIST_ITEMS_LIST_COST)) break;
+
+            YouTube.PlaylistItems.List req = youTube.playlistItems().list(List.of("contentDetails"));
+            req.setKey(apiKey);
+            req.setPlaylistId(playlistId);
+            req.setMaxResults(50L);
+            req.setFields("etag,nextPageToken,items/contentDetails(videoId,videoPublishedAt)");
+            if (pageToken != null) req.setPageToken(pageToken);
+            if (page == 0 && etag != null) req.getRequestHeaders().setIfNoneMatch(etag.toString());
+
+            PlaylistItemListResponse resp;
+            try {
+                resp = req.execute();
+            } catch (HttpResponseException e) {
+                if (e.getStatusCode() == 304) return 0;   // 마지막 크롤링 이후 새 업로드 없음
+                throw e;
+            }
+            if (page == 0) newEtag = resp.getEtag();
+
+            boolean reachedMark = false;
+            List<PlaylistItem> items = resp.getItems() != null ? resp.getItems() : List.of();
+            for (PlaylistItem item : items) {
+                if (item.getContentDetails() == null || item.getContentDetails().getVideoPublishedAt() == null) continue;
+                long publishedAt = item.getContentDetails().getVideoPublishedAt().getValue();
+                if (publishedAt <= floor) {
+                    reachedMark = true;
+                    continue;
+                }
+                Boolean isNew = redis.opsForZSet().add(RECENT_KEY, item.getContentDetails().getVideoId(), publishedAt);
+                if (Boolean.TRUE.equals(isNew)) added++;
+                newest = Math.max(newest, publishedAt);
+            }
+
+            // 업로드 재생목록은 최신순이므로 high-water mark에 닿으면 더 볼 필요가 없다
+            pageToken = resp.getNextPageToken();
+            if (reachedMark || pageToken == null) break;
+        }
+
+        // 끝까지 기록한 뒤에만 ETag/high-water mark를 올린다. 중간에 실패하면 다음 크롤링이 같은 구간을 다시 받는다.
+        if (newest > highWaterMark) {
+            redis.opsForHash().put(HWM_KEY, channelId, String.valueOf(newest));
+        }
+        if (newEtag != null) {
+            redis.opsForHash().put(ETAG_KEY, channelId, newEtag);
+        }
+        return added;
+    }
+}
@@ -0,0 +1,104 @@
+package com.factseekerbackend.domain.youtube.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * YouTube Data API 일일 쿼터 예산. 호출 전에 비용만큼 예약하고, 예산을 넘으면 호출하지 않는다.
+ * 카운터는 Redis에 있어 모든 노드가 같은 예산을 나눠 쓰며, YouTube 쿼터와 같이 태평양 시간 자정에 초기화된다.
+ * Redis를 사용할 수 없는 동안에는 노드 로컬 카운터로 예산을 노드 수만큼 나눈 몫까지만 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class YoutubeQuotaBudget {
+
+    // 엔드포인트별 쿼터 비용 (units)
+    public static final int SEARCH_LIST_COST = 100;
+    public static final int VIDEOS_LIST_COST = 1;
+
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("America/Los_Angeles");
+    private static final String KEY_PREFIX = "youtube:quota:";
+    private static final long KEY_TTL_SECONDS = 2 * 24 * 60 * 60;
+
+    // 예약 후 한도를 넘으면 되돌리고 0을 반환한다
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local used = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if used > tonumber(ARGV[2]) then
+                redis.call('DECRBY', KEYS[1], ARGV[1])
+                return 0
+            end
+            if used == tonumber(ARGV[1]) then
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+
+    // 프로젝트 일일 쿼터(기본 10,000) 중 이 서비스가 쓸 수 있는 몫
+    @Value("${youtube.quota.daily-budget:6000}")
+    private long dailyBudget;
+
+    // Redis 장애 시 로컬 예산 = 일일 예산 / 이 값. 실제 노드 수보다 작으면 합계가 예산을 넘을 수 있다
+    @Value("${youtube.quota.expected-nodes:2}")
+    private int expectedNodes;
+
+    // Redis 장애 중에만 쓰는 노드 로컬 카운터 (쿼터 날짜가 바뀌면 초기화)
+    private LocalDate localDay;
+    private long localUsed;
+
+    /**
+     * 비용만큼 예산을 예약한다. 예산이 부족하면 false. Redis를 사용할 수 없으면 노드 로컬 몫에서 예약한다.
+     */
+    public boolean tryAcquire(int units) {
+        return tryAcquire(units, 0);
+    }
+
+    /**
+     * reserve만큼은 남겨 두고 예약한다. 사용자 요청처럼 몰릴 수 있는 호출이 인기 순위 갱신 몫까지 쓰지 않게 할 때 쓴다.
+     */
+    public boolean tryAcquire(int units, long reserve) {
+        long limit = dailyBudget - reserve;
+        try {
+            Long ok = redis.execute(RESERVE_SCRIPT, List.of(todayKey()),
+                    String.valueOf(units), String.valueOf(limit), String.valueOf(KEY_TTL_SECONDS));
+            if (Long.valueOf(1L).equals(ok)) return true;
+            log.warn("YouTube 쿼터 예산 소진: 요청 {} units 거절 (일일 예산 {}, 예비 {})", units, dailyBudget, reserve);
+            return false;
+        } catch (Exception e) {
+            log.warn("YouTube 쿼터 예산 확인 실패, 노드 로컬 예산으로 처리: {}", e.toString());
+            return tryAcquireLocally(units, limit);
+        }
+    }
+
+    private synchronized boolean tryAcquireLocally(int units, long limit) {
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        if (!today.equals(localDay)) {
+            localDay = today;
+            localUsed = 0;
+        }
+        long localLimit = limit / Math.max(1, expectedNodes);
+        if (localUsed + units > localLimit) {
+            log.warn("YouTube 로컬 쿼터 예산 소진: 요청 {} units 거절 (노드 몫 {})", units, localLimit);
+            return false;
+        }
+        localUsed += units;
+        return true;
+    }
+
+    private String todayKey() {
+        return KEY_PREFIX + LocalDate.now(QUOTA_ZONE);
+    }
+}
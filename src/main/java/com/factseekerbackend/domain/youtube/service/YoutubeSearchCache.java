@@ -0,0 +1,159 @@
+package com.factseekerbackend.domain.youtube.service;
+
+import com.factseekerbackend.domain.youtube.controller.dto.response.YoutubeSearchResponse;
+import com.factseekerbackend.global.exception.BusinessException;
+import com.factseekerbackend.global.exception.ErrorCode;
+import com.factseekerbackend.global.util.TextSanitizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키워드 검색 결과 캐시. 정규화한 검색어(한글 NFC, 공백, 대소문자)를 키로
+ * 노드 내 Caffeine(L1) + Redis(L2, 전 노드 공유) 2단으로 보관한다.
+ *
+ * <ul>
+ *   <li>fresh-for 안의 결과는 그대로 응답한다.</li>
+ *   <li>같은 검색어로 동시에 들어온 미스는 노드당 한 번만 search.list를 호출하고 나머지는 그 결과를 기다린다.</li>
+ *   <li>쿼터 예산이 부족하거나 호출이 실패하면 stale-for 안의 이전 결과로 응답한다. 이전 결과도 없을 때만 오류.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class YoutubeSearchCache {
+
+    private static final String KEY_PREFIX = "youtube:search:";
+
+    /** 검색 결과와 가져온 시각(epoch millis) */
+    record Entry(List<YoutubeSearchResponse> results, long fetchedAt) {
+        Duration age() {
+            return Duration.ofMillis(Math.max(0, System.currentTimeMillis() - fetchedAt));
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        List<YoutubeSearchResponse> load() throws IOException;
+    }
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper om;
+    private final YoutubeQuotaBudget quotaBudget;
+    private final Duration freshFor;
+    private final Duration staleFor;
+    private final long quotaReserve;
+    private final Cache<String, Entry> local;
+    private final ConcurrentHashMap<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+    public YoutubeSearchCache(@Qualifier("cacheStringRedisTemplate") StringRedisTemplate redis,
+                              ObjectMapper om,
+                              YoutubeQuotaBudget quotaBudget,
+                              @Value("${youtube.search.cache.fresh-for:5m}") Duration freshFor,
+                              @Value("${youtube.search.cache.stale-for:24h}") Duration staleFor,
+                              @Value("${youtube.search.cache.local-max-size:5000}") long localMaxSize,
+                              @Value("${youtube.search.quota-reserve:2000}") long quotaReserve) {
+        this.redis = redis;
+        this.om = om;
+        this.quotaBudget = quotaBudget;
+        this.freshFor = freshFor;
+        this.staleFor = staleFor;
+        this.quotaReserve = quotaReserve;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(freshFor)
+                .build();
+    }
+
+    public List<YoutubeSearchResponse> get(String query, Loader loader) throws IOException {
+        String key = TextSanitizer.normalizeKey(query);
+
+        Entry cached = local.getIfPresent(key);
+        if (cached == null) {
+            cached = readShared(key);
+            if (cached != null && cached.age().compareTo(freshFor) < 0) local.put(key, cached);
+        }
+        if (cached != null && cached.age().compareTo(freshFor) < 0) {
+            return cached.results();
+        }
+
+        // 같은 검색어 동시 요청 병합: 먼저 온 요청만 호출하고 나머지는 결과를 공유한다
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            return awaitLeader(leader, cached);
+        }
+
+        try {
+            if (!quotaBudget.tryAcquire(YoutubeQuotaBudget.SEARCH_LIST_COST, quotaReserve)) {
+                if (cached != null) {
+                    log.info("쿼터 부족으로 이전 검색 결과 응답: query='{}', age={}", key, cached.age());
+                    mine.complete(cached);
+                    return cached.results();
+                }
+                throw new BusinessException(ErrorCode.YOUTUBE_QUOTA_EXHAUSTED, ErrorCode.YOUTUBE_QUOTA_EXHAUSTED.getMessage());
+            }
+
+            Entry fresh = new Entry(loader.load(), System.currentTimeMillis());
+            local.put(key, fresh);
+            writeShared(key, fresh);
+            mine.complete(fresh);
+            return fresh.results();
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            if (cached != null && !(e instanceof BusinessException)) {
+                log.warn("유튜브 검색 실패, 이전 검색 결과 응답: query='{}', age={} ({})", key, cached.age(), e.toString());
+                return cached.results();
+            }
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private List<YoutubeSearchResponse> awaitLeader(CompletableFuture<Entry> leader, Entry cached) throws IOException {
+        try {
+            return leader.join().results();
+        } catch (CompletionException e) {
+            if (cached != null) return cached.results();
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    private Entry readShared(String key) {
+        try {
+            String json = redis.opsForValue().get(redisKey(key));
+            return json == null ? null : om.readValue(json, Entry.class);
+        } catch (Exception e) {
+            log.debug("검색 결과 공유 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(String key, Entry entry) {
+        try {
+            // 신선도는 fetchedAt으로 판단하고, 키는 stale 응답이 가능한 기간까지 보관한다
+            redis.opsForValue().set(redisKey(key), om.writeValueAsString(entry), staleFor);
+        } catch (Exception e) {
+            log.debug("검색 결과 공유 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String redisKey(String normalizedQuery) {
+        return KEY_PREFIX + TitleLabelCache.sha256(normalizedQuery);
+    }
+}
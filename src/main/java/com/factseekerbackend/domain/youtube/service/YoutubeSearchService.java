@@ -8,6 +8,7 @@ import com.google.api.services.youtube.model.SearchListResponse;
 import com.google.api.services.youtube.model.SearchResult;
 import com.google.api.services.youtube.model.Video;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,19 +23,42 @@ import java.util.stream.Collectors;
 
 import static com.factseekerbackend.domain.youtube.config.WhiteListChannels.WHITE_LIST_CHANNELS;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class YoutubeSearchService implements YoutubeService {
 
+    // 순위 후보 조회에 필요한 필드만 받는다 (제목/채널/썸네일 + 조회수 + 길이)
+    private static final String POPULAR_VIDEO_FIELDS =
+            "items(id,snippet(title,channelId,channelTitle,thumbnails(default/url,high/url)),statistics/viewCount,contentDetails/duration)";
+
     private final YouTube youTube;
     private final OpenAiTitleFilterService filterService;
+    private final YoutubeQuotaBudget quotaBudget;
+    private final WhiteListChannelCrawler crawler;
+    private final YoutubeSearchCache searchCache;
+    private final VideoMetadataCache videoMetadataCache;
 
     @Value("${youtube.api.key}")
     private String apiKey;
 
-       @Override
+    // 채널 검색 fan-out 전체 마감 시간. 이 안에 끝난 채널 결과만 사용한다.
+    @Value("${youtube.popular.discovery-deadline:10s}")
+    private Duration discoveryDeadline;
+
+    @Value("${youtube.crawler.enabled:true}")
+    private boolean crawlerEnabled;
+
+    /**
+     * 키워드 검색. 같은 검색어는 캐시에서 응답하고, 동시에 들어온 같은 검색어는 한 번만 호출한다.
+     */
+    @Override
     public List<YoutubeSearchResponse> searchVideos(String query) throws IOException {
+        return searchCache.get(query, () -> fetchSearch(query));
+    }
+
+    private List<YoutubeSearchResponse> fetchSearch(String query) throws IOException {
         YouTube.Search.List search = youTube.search().list(List.of("id", "snippet"));
         search.setKey(apiKey);
         search.setQ(query);
@@ -44,6 +68,7 @@ public class YoutubeSearchService implements YoutubeService {
         search.setMaxResults(10L);
 
         SearchListResponse response = search.execute();
+        if (response.getItems() == null) return List.of();
         return response.getItems().stream()
                 .map(YoutubeSearchResponse::from)
                 .collect(Collectors.toList());
@@ -57,24 +82,7 @@ public class YoutubeSearchService implements YoutubeService {
 
     private List<VideoDto> getWhiteListedPopular(long size) throws IOException {
         OffsetDateTime since = OffsetDateTime.now(ZoneId.of("Asia/Seoul")).minusDays(1);
-        Set<String> videoIds = new LinkedHashSet<>();
-
-        for (String channelId : WHITE_LIST_CHANNELS) {
-            YouTube.Search.List s = youTube.search().list(List.of("id", "snippet"));
-            s.setKey(apiKey);
-            s.setType(List.of("video"));
-            s.setChannelId(channelId);
-            s.setOrder("viewCount");
-            s.setPublishedAfter(since.toInstant().toString());
-            s.setMaxResults(10L);
-            SearchListResponse resp = s.execute();
-            if (resp.getItems() == null) continue;
-            for (SearchResult r : resp.getItems()) {
-                if (r.getId() != null && r.getId().getVideoId() != null) {
-                    videoIds.add(r.getId().getVideoId());
-                }
-            }
-        }
+        Set<String> videoIds = discoverWhiteListedVideoIds(since);
 
         if (videoIds.isEmpty()) return List.of();
 
@@ -104,14 +112,61 @@ public class YoutubeSearchService implements YoutubeService {
         return classifyAndFilter(dtos, size);
     }
 
+    /**
+     * 최근 하루 화이트리스트 채널 업로드 ID. 기본은 업로드 재생목록 증분 크롤링(채널당 1 unit)이고,
+     * 크롤러를 끈 경우 채널별 search.list(100 units)를 동시에 호출한다. 어느 쪽이든 늦거나 실패한 채널은 제외된다.
+     */
+    private Set<String> discoverWhiteListedVideoIds(OffsetDateTime since) {
+        if (crawlerEnabled) {
+            return crawler.recentVideoIds(WHITE_LIST_CHANNELS, since, discoveryDeadline);
+        }
+
+        List<String> channels = new ArrayList<>();
+        for (String channelId : WHITE_LIST_CHANNELS) {
+            if (!quotaBudget.tryAcquire(YoutubeQuotaBudget.SEARCH_LIST_COST)) break;
+            channels.add(channelId);
+        }
+        if (channels.size() < WHITE_LIST_CHANNELS.size()) {
+            log.warn("쿼터 예산 부족으로 화이트리스트 채널 {}/{}개만 검색합니다.", channels.size(), WHITE_LIST_CHANNELS.size());
+        }
+
+        Set<String> videoIds = new LinkedHashSet<>();
+        ChannelFanOut.run(channels, discoveryDeadline, channelId -> searchChannelVideoIds(channelId, since))
+                .values()
+                .forEach(videoIds::addAll);
+        return videoIds;
+    }
+
+    private List<String> searchChannelVideoIds(String channelId, OffsetDateTime since) throws IOException {
+        YouTube.Search.List s = youTube.search().list(List.of("id", "snippet"));
+        s.setKey(apiKey);
+        s.setType(List.of("video"));
+        s.setChannelId(channelId);
+        s.setOrder("viewCount");
+        s.setPublishedAfter(since.toInstant().toString());
+        s.setMaxResults(10L);
+        SearchListResponse resp = s.execute();
+        if (resp.getItems() == null) return List.of();
+
+        List<String> ids = new ArrayList<>();
+        for (SearchResult r : resp.getItems()) {
+            if (r.getId() != null && r.getId().getVideoId() != null) {
+                ids.add(r.getId().getVideoId());
+            }
+        }
+        return ids;
+    }
+
     private List<Video> fetchVideosByIds(List<String> ids) throws IOException {
         List<Video> out = new ArrayList<>();
         int BATCH = 50;
         for (int i = 0; i < ids.size(); i += BATCH) {
+            if (!quotaBudget.tryAcquire(YoutubeQuotaBudget.VIDEOS_LIST_COST)) break;
             List<String> slice = ids.subList(i, Math.min(ids.size(), i + BATCH));
             YouTube.Videos.List req = youTube.videos().list(List.of("id,snippet,statistics,contentDetails"));
             req.setKey(apiKey);
             req.setId(slice);
+            req.setFields(POPULAR_VIDEO_FIELDS);
             var resp = req.execute();
             if (resp.getItems() != null) out.addAll(resp.getItems());
         }
@@ -138,18 +193,16 @@ public class YoutubeSearchService implements YoutubeService {
         return out;
     }
 
+    /** 메타데이터 캐시(L1/L2)를 거친다. 없는 영상이면 null. */
     @Override
     public VideoDto getVideoById(String videoId) throws IOException {
-        YouTube.Videos.List request = youTube.videos()
-                .list(List.of("id,snippet,statistics,contentDetails"));
-        request.setKey(apiKey);
-        request.setId(List.of(videoId));
-
-        List<Video> items = request.execute().getItems();
-        if (items == null || items.isEmpty()) {
-            return null;
-        }
-        return VideoDto.from(items.getFirst());
+        return videoMetadataCache.get(videoId);
+    }
+
+    /** 찾은 영상만 담아 돌려준다. 캐시 미스는 videos.list 한 번으로 모아 조회한다. */
+    @Override
+    public Map<String, VideoDto> getVideosByIds(Collection<String> videoIds) throws IOException {
+        return videoMetadataCache.getAll(videoIds);
     }
 
     private long getDurationSecondsSafe(Video video) {
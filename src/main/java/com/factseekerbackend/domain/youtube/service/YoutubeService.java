@@ -5,10 +5,13 @@ import com.factseekerbackend.domain.youtube.controller.dto.response.VideoDto;
 import com.factseekerbackend.domain.youtube.controller.dto.response.YoutubeSearchResponse;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface YoutubeService {
     List<YoutubeSearchResponse> searchVideos(String query) throws IOException;
     VideoListResponse getPopularPoliticsTop10Resp(long size) throws IOException;
     VideoDto getVideoById(String videoId) throws IOException;
+    Map<String, VideoDto> getVideosByIds(Collection<String> videoIds) throws IOException;
 }
@@ -0,0 +1,92 @@
+package com.factseekerbackend.domain.youtube.service.classifier;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 가중치 키워드 Aho-Corasick 오토마톤. 제목을 한 번만 훑어 등장한 키워드들의 가중치 합을 구한다.
+ * 같은 키워드가 여러 번 나와도 한 번만 센다. 생성 후에는 불변이라 여러 스레드에서 공유해도 된다.
+ */
+public final class KeywordAutomaton {
+
+    private final List<Map<Character, Integer>> next = new ArrayList<>();
+    private final List<Integer> fail = new ArrayList<>();
+    private final List<int[]> outputs = new ArrayList<>();   // 노드에서 끝나는 키워드 인덱스 (fail 체인 포함)
+    private final double[] weights;
+
+    public KeywordAutomaton(Map<String, Double> keywordWeights) {
+        List<String> keywords = new ArrayList<>(keywordWeights.keySet());
+        this.weights = new double[keywords.size()];
+        newNode();
+
+        List<List<Integer>> out = new ArrayList<>();
+        out.add(new ArrayList<>());
+        for (int k = 0; k < keywords.size(); k++) {
+            weights[k] = keywordWeights.get(keywords.get(k));
+            int node = 0;
+            for (char c : keywords.get(k).toCharArray()) {
+                Integer child = next.get(node).get(c);
+                if (child == null) {
+                    child = newNode();
+                    next.get(node).put(c, child);
+                    out.add(new ArrayList<>());
+                }
+                node = child;
+            }
+            out.get(node).add(k);
+        }
+
+        // BFS로 fail 링크를 잇고, fail 대상의 출력을 합친다
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : next.get(0).values()) {
+            fail.set(child, 0);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> e : next.get(node).entrySet()) {
+                int child = e.getValue();
+                int f = fail.get(node);
+                while (f != 0 && !next.get(f).containsKey(e.getKey())) f = fail.get(f);
+                Integer target = next.get(f).get(e.getKey());
+                int failTo = (target != null && target != child) ? target : 0;
+                fail.set(child, failTo);
+                out.get(child).addAll(out.get(failTo));
+                queue.add(child);
+            }
+        }
+        for (List<Integer> o : out) {
+            outputs.add(o.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /** 제목에 등장한 키워드 가중치의 합 */
+    public double score(String text) {
+        boolean[] seen = new boolean[weights.length];
+        double sum = 0;
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != 0 && !next.get(node).containsKey(c)) node = fail.get(node);
+            Integer child = next.get(node).get(c);
+            node = child != null ? child : 0;
+            for (int k : outputs.get(node)) {
+                if (!seen[k]) {
+                    seen[k] = true;
+                    sum += weights[k];
+                }
+            }
+        }
+        return sum;
+    }
+
+    private int newNode() {
+        next.add(new HashMap<>());
+        fail.add(0);
+        return next.size() - 1;
+    }
+}
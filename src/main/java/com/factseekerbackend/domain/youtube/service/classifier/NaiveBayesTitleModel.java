@@ -0,0 +1,78 @@
+package com.factseekerbackend.domain.youtube.service.classifier;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한글 문자 2/3-gram 나이브 베이즈 모델. LLM이 이미 붙인 라벨로 학습하며, 제목의 정치 여부 로그 오즈를 돌려준다.
+ * 학습 후에는 불변이다.
+ */
+public final class NaiveBayesTitleModel {
+
+    private static final double ALPHA = 1.0;   // 라플라스 스무딩
+
+    private final Map<String, int[]> counts;   // n-gram → [비정치, 정치] 등장 횟수
+    private final double priorLogOdds;
+    private final double[] logDenominator = new double[2];
+
+    private NaiveBayesTitleModel(Map<String, int[]> counts, int[] docs, long[] totals) {
+        this.counts = counts;
+        this.priorLogOdds = Math.log((docs[1] + ALPHA) / (docs[0] + ALPHA));
+        int vocabulary = Math.max(1, counts.size());
+        for (int c = 0; c < 2; c++) {
+            logDenominator[c] = Math.log(totals[c] + ALPHA * vocabulary);
+        }
+    }
+
+    public static NaiveBayesTitleModel train(Map<String, Boolean> labeled) {
+        Map<String, int[]> counts = new HashMap<>();
+        int[] docs = new int[2];
+        long[] totals = new long[2];
+        labeled.forEach((title, political) -> {
+            int c = political ? 1 : 0;
+            docs[c]++;
+            for (String f : features(title)) {
+                counts.computeIfAbsent(f, k -> new int[2])[c]++;
+                totals[c]++;
+            }
+        });
+        return new NaiveBayesTitleModel(counts, docs, totals);
+    }
+
+    /** 양수면 정치 쪽. 학습에 없던 n-gram은 무시한다. */
+    public double logOdds(String normalizedTitle) {
+        double score = priorLogOdds;
+        for (String f : features(normalizedTitle)) {
+            int[] c = counts.get(f);
+            if (c == null) continue;
+            score += Math.log(c[1] + ALPHA) - logDenominator[1]
+                    - Math.log(c[0] + ALPHA) + logDenominator[0];
+        }
+        return score;
+    }
+
+    public int vocabularySize() {
+        return counts.size();
+    }
+
+    /** 글자/숫자 연속 구간마다 문자 2-gram, 3-gram (한 제목 안에서는 한 번만) */
+    static Set<String> features(String normalizedTitle) {
+        Set<String> out = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= normalizedTitle.length(); i++) {
+            boolean word = i < normalizedTitle.length() && Character.isLetterOrDigit(normalizedTitle.charAt(i));
+            if (word && start < 0) start = i;
+            if (!word && start >= 0) {
+                for (int n = 2; n <= 3; n++) {
+                    for (int j = start; j + n <= i; j++) {
+                        out.add(normalizedTitle.substring(j, j + n));
+                    }
+                }
+                start = -1;
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,152 @@
+package com.factseekerbackend.domain.youtube.service.classifier;
+
+import com.factseekerbackend.global.util.TextSanitizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.Map.entry;
+
+/**
+ * LLM 호출 전에 JVM 안에서 제목의 정치 여부를 먼저 판단한다.
+ *
+ * <p>점수 = 나이브 베이즈 로그 오즈(LLM 라벨로 학습) + 가이드의 강한 신호 키워드 가중치(Aho-Corasick).
+ * 점수가 임계값을 넘는 확실한 제목만 로컬에서 결정하고, 애매한 제목은 GPT-4o로 보낸다.
+ * 주기적으로 LLM 라벨을 다시 학습하고, 학습에 쓰지 않은 라벨(홀드아웃)과의 일치율이 기준 이상일 때만 활성화된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PoliticalTitlePreClassifier {
+
+    // GUIDE_KO의 [강한 POLITICS 신호] / [NOT_POLITICS의 흔한 패턴]
+    private static final KeywordAutomaton KEYWORDS = new KeywordAutomaton(Map.ofEntries(
+            entry("윤석열", 3.0), entry("한동훈", 3.0), entry("이재명", 3.0), entry("이준석", 3.0),
+            entry("오세훈", 3.0), entry("홍준표", 3.0), entry("원희룡", 3.0), entry("김건희", 3.0),
+            entry("대통령", 2.5), entry("총리", 2.5), entry("장관", 2.0), entry("국회의원", 2.5), entry("구청장", 2.0),
+            entry("국민의힘", 3.0), entry("민주당", 3.0), entry("정의당", 3.0), entry("국회", 2.5),
+            entry("비대위", 3.0), entry("혁신위", 3.0), entry("공천", 3.0), entry("컷오프", 2.0),
+            entry("원내대표", 3.0), entry("당대표", 3.0), entry("최고위", 2.5),
+            entry("청문회", 3.0), entry("탄핵", 3.0), entry("국정조사", 3.0), entry("특검", 3.0),
+            entry("영장심사", 2.0), entry("압수수색", 1.5), entry("공약", 2.0), entry("개각", 3.0), entry("개헌", 3.0),
+            entry("총선", 3.0), entry("대선", 3.0), entry("보선", 2.5), entry("전당대회", 3.0),
+            entry("의대정원", 2.5), entry("의료개혁", 2.5), entry("종부세", 2.0), entry("연금개혁", 2.5),
+            entry("최저임금", 1.5), entry("방위비", 2.0), entry("검찰개혁", 3.0), entry("언론3법", 3.0),
+            entry("정상회담", 2.5), entry("한미", 1.5), entry("한일", 1.0), entry("한중", 1.0),
+            entry("대북", 2.5), entry("남북", 2.0), entry("국방부", 2.0),
+            entry("브이로그", -3.0), entry("먹방", -3.0), entry("언박싱", -3.0), entry("게임", -2.0),
+            entry("리뷰", -1.5), entry("다이어트", -3.0), entry("운동루틴", -3.0), entry("반려견", -3.0),
+            entry("강아지", -2.0), entry("고양이", -2.0)
+    ));
+
+    private final TitleLabelSampleStore sampleStore;
+
+    @Value("${youtube.title-filter.pre-classifier.enabled:true}")
+    private boolean enabled;
+
+    // |점수|가 이 값 이상일 때만 로컬에서 결정한다 (로그 오즈 4 ≈ 98%)
+    @Value("${youtube.title-filter.pre-classifier.threshold:4.0}")
+    private double threshold;
+
+    // 활성화 조건: 홀드아웃 라벨 수와, 로컬에서 결정한 제목의 LLM 일치율
+    @Value("${youtube.title-filter.pre-classifier.min-holdout:50}")
+    private int minHoldout;
+
+    @Value("${youtube.title-filter.pre-classifier.min-agreement:0.97}")
+    private double minAgreement;
+
+    // 로컬에서 결정할 수 있는 제목도 이 비율만큼은 LLM에 보내 라벨을 계속 쌓는다 (분포 편향 방지)
+    @Value("${youtube.title-filter.pre-classifier.audit-rate:0.05}")
+    private double auditRate;
+
+    private volatile NaiveBayesTitleModel model;
+    private volatile String namespace;
+
+    /**
+     * 확실한 제목이면 정치 여부를, 애매하거나 모델이 비활성 상태면 empty를 돌려준다 (제목당 수 µs).
+     */
+    public Optional<Boolean> classify(String title) {
+        NaiveBayesTitleModel m = model;
+        if (!enabled || m == null) return Optional.empty();
+        if (auditRate > 0 && ThreadLocalRandom.current().nextDouble() < auditRate) return Optional.empty();
+        return decide(m, TextSanitizer.normalizeKey(title));
+    }
+
+    /** 라벨 네임스페이스(모델/프롬프트 버전)가 바뀌면 이전 기준으로 학습한 모델은 버리고 새로 학습한다. */
+    public void useNamespace(String labelNamespace) {
+        if (!labelNamespace.equals(namespace)) {
+            namespace = labelNamespace;
+            model = null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${youtube.title-filter.pre-classifier.retrain-interval:21600000}", initialDelay = 120000)
+    public void retrain() {
+        String ns = namespace;
+        if (!enabled || ns == null) return;
+        try {
+            Map<String, Boolean> samples = sampleStore.loadAll(ns);
+
+            // 제목 해시로 나눠 재학습해도 같은 제목은 항상 같은 쪽에 있게 한다
+            Map<String, Boolean> train = new HashMap<>();
+            Map<String, Boolean> holdout = new HashMap<>();
+            samples.forEach((title, label) -> (Math.floorMod(title.hashCode(), 5) == 0 ? holdout : train).put(title, label));
+
+            NaiveBayesTitleModel candidate = NaiveBayesTitleModel.train(train);
+            Evaluation eval = evaluate(candidate, holdout);
+            boolean activate = eval.total() >= minHoldout && eval.decided() > 0 && eval.agreement() >= minAgreement;
+            log.info("제목 사전 분류기 평가: 학습 {}건(어휘 {}), 홀드아웃 {}건, 로컬 결정 {}%, LLM 일치율 {}%, {} ns/제목 → {}",
+                    train.size(), candidate.vocabularySize(), eval.total(),
+                    String.format("%.1f", eval.coverage() * 100), String.format("%.2f", eval.agreement() * 100),
+                    eval.nanosPerTitle(), activate ? "활성" : "비활성(모두 LLM)");
+
+            // 평가를 통과하면 홀드아웃까지 포함해 다시 학습한 모델로 교체한다
+            if (ns.equals(namespace)) {
+                model = activate ? NaiveBayesTitleModel.train(samples) : null;
+            }
+        } catch (Exception e) {
+            log.warn("제목 사전 분류기 학습 실패 (이전 모델 유지): {}", e.toString());
+        }
+    }
+
+    /**
+     * 평가 하네스: LLM 라벨과 비교해 로컬 결정 비율(coverage)과 결정한 제목의 일치율(agreement), 제목당 소요 시간을 잰다.
+     */
+    public Evaluation evaluate(NaiveBayesTitleModel candidate, Map<String, Boolean> llmLabels) {
+        int decided = 0;
+        int agreed = 0;
+        long started = System.nanoTime();
+        for (Map.Entry<String, Boolean> e : llmLabels.entrySet()) {
+            Optional<Boolean> local = decide(candidate, e.getKey());
+            if (local.isEmpty()) continue;
+            decided++;
+            if (local.get().equals(e.getValue())) agreed++;
+        }
+        long elapsed = System.nanoTime() - started;
+        return new Evaluation(llmLabels.size(), decided, agreed, llmLabels.isEmpty() ? 0 : elapsed / llmLabels.size());
+    }
+
+    private Optional<Boolean> decide(NaiveBayesTitleModel m, String normalizedTitle) {
+        double score = m.logOdds(normalizedTitle) + KEYWORDS.score(normalizedTitle);
+        if (score >= threshold) return Optional.of(Boolean.TRUE);
+        if (score <= -threshold) return Optional.of(Boolean.FALSE);
+        return Optional.empty();
+    }
+
+    public record Evaluation(int total, int decided, int agreed, long nanosPerTitle) {
+        public double coverage() {
+            return total == 0 ? 0 : (double) decided / total;
+        }
+
+        public double agreement() {
+            return decided == 0 ? 0 : (double) agreed / decided;
+        }
+    }
+}
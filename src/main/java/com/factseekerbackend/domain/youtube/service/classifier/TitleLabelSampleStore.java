@@ -0,0 +1,51 @@
+package com.factseekerbackend.domain.youtube.service.classifier;
+
+import com.factseekerbackend.global.util.TextSanitizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LLM이 붙인 제목 라벨을 학습 데이터로 모아 둔다 (Redis 해시: 정규화 제목 → "1"/"0").
+ * 모델/프롬프트 버전별로 따로 쌓으므로 분류 기준이 바뀌면 새 기준의 라벨만으로 다시 학습된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleLabelSampleStore {
+
+    private static final String KEY_PREFIX = "title-label:samples:";
+
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+
+    @Value("${youtube.title-filter.pre-classifier.max-samples:50000}")
+    private long maxSamples;
+
+    public void record(String namespace, Map<String, Boolean> labels) {
+        if (labels.isEmpty()) return;
+        String key = KEY_PREFIX + namespace;
+        try {
+            Long size = redis.opsForHash().size(key);
+            if (size != null && size >= maxSamples) return;
+            Map<String, String> entries = new HashMap<>();
+            labels.forEach((title, label) -> entries.put(TextSanitizer.normalizeKey(title), label ? "1" : "0"));
+            redis.opsForHash().putAll(key, entries);
+        } catch (Exception e) {
+            log.debug("제목 라벨 학습 데이터 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Boolean> loadAll(String namespace) {
+        Map<String, Boolean> out = new HashMap<>();
+        redis.<String, String>opsForHash().entries(KEY_PREFIX + namespace)
+                .forEach((title, label) -> out.put(title, "1".equals(label)));
+        return out;
+    }
+}
@@ -0,0 +1,38 @@
+package com.factseekerbackend.domain.youtube.service.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인기 정치 영상 순위가 갱신되었다는 알림. 새 순위 전체와 직전 순위 대비 변경분(diff)을 함께 싣는다.
+ * 순위 내용이 같아도 갱신될 때마다 발행되며, 구독자는 version(갱신 시각)으로 같은 갱신을 중복 처리하지 않는다.
+ */
+public record RankingChangedEvent(
+        String version,
+        List<String> ranked,
+        List<String> added,
+        List<String> removed,
+        String sourceNode
+) {
+
+    public static RankingChangedEvent of(String version, List<String> previous, List<String> current, String sourceNode) {
+        Set<String> before = new LinkedHashSet<>(previous);
+        Set<String> after = new LinkedHashSet<>(current);
+
+        List<String> added = new ArrayList<>();
+        for (String videoId : after) {
+            if (!before.contains(videoId)) added.add(videoId);
+        }
+        List<String> removed = new ArrayList<>();
+        for (String videoId : before) {
+            if (!after.contains(videoId)) removed.add(videoId);
+        }
+        return new RankingChangedEvent(version, List.copyOf(after), added, removed, sourceNode);
+    }
+
+    public boolean hasMembershipChange() {
+        return !added.isEmpty() || !removed.isEmpty();
+    }
+}
@@ -0,0 +1,45 @@
+package com.factseekerbackend.domain.youtube.service.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 순위 갱신 알림을 노드 내(Spring 이벤트)와 노드 간(Redis pub/sub)으로 발행한다.
+ * 다른 노드는 {@link RankingEventRelay}가 받아 자기 노드의 Spring 이벤트로 다시 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingEventPublisher {
+
+    public static final String CHANNEL = "popular:ranking:events";
+
+    // 자기 노드가 보낸 메시지를 Relay에서 걸러내기 위한 노드(프로세스) 식별자
+    static final String NODE_ID = UUID.randomUUID().toString();
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    @Qualifier("cacheStringRedisTemplate")
+    private final StringRedisTemplate redis;
+    private final ObjectMapper om;
+
+    public String nodeId() {
+        return NODE_ID;
+    }
+
+    public void publish(RankingChangedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+        try {
+            redis.convertAndSend(CHANNEL, om.writeValueAsString(event));
+        } catch (Exception e) {
+            // 다른 노드에 알리지 못해도 이 노드의 구독자는 이미 처리를 시작했다
+            log.warn("순위 갱신 알림 발행 실패 version={}: {}", event.version(), e.toString());
+        }
+    }
+}
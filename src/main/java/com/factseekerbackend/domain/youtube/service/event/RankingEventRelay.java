@@ -0,0 +1,46 @@
+package com.factseekerbackend.domain.youtube.service.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 발행된 순위 갱신 알림(Redis 채널)을 이 노드의 Spring 이벤트로 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingEventRelay implements MessageListener {
+
+    @Qualifier("cacheRedisMessageListenerContainer")
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper om;
+
+    @PostConstruct
+    void register() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RankingEventPublisher.CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RankingChangedEvent event;
+        try {
+            event = om.readValue(message.getBody(), RankingChangedEvent.class);
+        } catch (Exception e) {
+            log.warn("순위 갱신 알림 파싱 실패: {}", e.toString());
+            return;
+        }
+        // 자기 노드가 보낸 알림은 발행 시점에 이미 로컬로 전달했다
+        if (RankingEventPublisher.NODE_ID.equals(event.sourceNode())) return;
+        applicationEventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,55 @@
+package com.factseekerbackend.global.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * 저장된 JSON 문자열을 파싱 없이 응답에 그대로 끼워 넣기 위한 래퍼.
+ * 쓰기 시점에 검증된 JSON에만 사용해야 한다.
+ */
+public final class RawJson implements JsonSerializable {
+
+    private static final RawJson EMPTY_ARRAY = new RawJson("[]");
+
+    private final String json;
+
+    private RawJson(String json) {
+        this.json = json;
+    }
+
+    /**
+     * 저장된 JSON 배열을 감싼다. 비어 있거나 배열이 아닌 값(레거시 데이터 등)은 빈 배열로 대체한다.
+     */
+    public static RawJson ofArray(String json) {
+        if (json == null) return EMPTY_ARRAY;
+        String trimmed = json.strip();
+        if (trimmed.isEmpty() || trimmed.charAt(0) != '[' || trimmed.charAt(trimmed.length() - 1) != ']') {
+            return EMPTY_ARRAY;
+        }
+        return new RawJson(trimmed);
+    }
+
+    public String json() {
+        return json;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+}
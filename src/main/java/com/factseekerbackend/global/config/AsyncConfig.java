@@ -1,10 +1,13 @@
 package com.factseekerbackend.global.config;
 
 import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @Configuration
 @EnableAsync
@@ -13,14 +16,32 @@ public class AsyncConfig {
     @Bean("factCheckExecutor")
     public Executor factCheckExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(1);        // 기본 1개 스레드
+        executor.setCorePoolSize(5);        // FastAPI 응답 저장(JPA) 전용. FastAPI 호출 자체는 논블로킹이라 스레드를 점유하지 않는다
         executor.setMaxPoolSize(5);         // 최대 5개 스레드
-        executor.setQueueCapacity(25);      // 큐 용량도 줄임
+        executor.setQueueCapacity(500);     // 동시 진행 중인 팩트체크 수만큼 저장 작업이 몰릴 수 있다
         executor.setThreadNamePrefix("FactCheck-");
         executor.initialize();
         return executor;
     }
 
+    // 리액티브 체인에서 블로킹 저장(JPA) 구간을 factCheckExecutor로 옮기기 위한 스케줄러
+    @Bean("factCheckScheduler")
+    public Scheduler factCheckScheduler(@Qualifier("factCheckExecutor") Executor factCheckExecutor) {
+        return Schedulers.fromExecutor(factCheckExecutor);
+    }
+
+    // 인기 영상 순위 백그라운드 갱신 (노드당 한 번에 하나만 실행)
+    @Bean("popularRefreshExecutor")
+    public Executor popularRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("PopularRefresh-");
+        executor.initialize();
+        return executor;
+    }
+
     @Bean("batchExecutor")
     public Executor batchExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
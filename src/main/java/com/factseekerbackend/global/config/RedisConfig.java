@@ -15,6 +15,7 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -121,6 +122,16 @@ public class RedisConfig {
     return template;
   }
 
+  // 노드 간 알림(pub/sub) 수신용. 각 리스너가 채널을 직접 등록한다.
+  @Bean(name = "cacheRedisMessageListenerContainer")
+  public RedisMessageListenerContainer cacheRedisMessageListenerContainer(
+      @Qualifier("cacheRedisConnectionFactory") RedisConnectionFactory connectionFactory
+  ) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    return container;
+  }
+
   private RedisSerializer<Object> jackson2JsonRedisSerializers() {
     PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
             .allowIfBaseType(Object.class)
@@ -9,6 +9,7 @@ import com.factseekerbackend.global.auth.oauth2.repository.OAuth2AuthorizationRe
 import com.factseekerbackend.global.auth.oauth2.service.CustomOAuth2UserService;
 import com.factseekerbackend.domain.user.service.CustomUserDetailsService;
 import java.util.Arrays;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -110,6 +111,7 @@ public class SecurityConfig {
     configuration.setAllowedMethods(
         Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
     configuration.setAllowedHeaders(Arrays.asList("*"));
+    configuration.setExposedHeaders(List.of("Idempotent-Replayed")); // 중복 분석 요청 재응답 여부
     configuration.setAllowCredentials(true);
 
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
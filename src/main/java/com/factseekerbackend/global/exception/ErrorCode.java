@@ -46,7 +46,17 @@ public enum ErrorCode {
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
 
   // TOP10 에러
-  VIDEO_NOT_FOUND(HttpStatus.BAD_REQUEST, "유효하지 않은 비디오ID 입니다.");
+  VIDEO_NOT_FOUND(HttpStatus.BAD_REQUEST, "유효하지 않은 비디오ID 입니다."),
+  POPULAR_VIDEOS_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "인기 영상 목록을 준비 중입니다. 잠시 후 다시 시도해주세요."),
+  YOUTUBE_QUOTA_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "유튜브 검색 요청이 많아 잠시 검색할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+  // 분석 요청 중복 방지
+  ANALYSIS_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 분석 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
+  IDEMPOTENCY_KEY_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 영상을 요청할 수 없습니다."),
+
+  // 분석 서버(FastAPI) 에러
+  FASTAPI_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "분석 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
+  FASTAPI_INVALID_RESPONSE(HttpStatus.BAD_GATEWAY, "분석 서버 응답 형식이 올바르지 않습니다.");
   private final HttpStatus status;
   private final String message;
 }
@@ -3,6 +3,9 @@ package com.factseekerbackend.global.util;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.HtmlUtils;
 
+import java.text.Normalizer;
+import java.util.Locale;
+
 public final class TextSanitizer {
 
     private TextSanitizer() {}
@@ -21,4 +24,13 @@ public final class TextSanitizer {
         String noBackslashes = collapsed.replace("\\", "");
         return StringUtils.hasText(noBackslashes) ? noBackslashes : "";
     }
+
+    /**
+     * 캐시 키/비교용 정규화. 공백·대소문자·유니코드 조합(한글 NFC) 차이는 같은 문자열로 본다.
+     */
+    public static String normalizeKey(String raw) {
+        if (raw == null) return "";
+        String nfc = Normalizer.normalize(raw, Normalizer.Form.NFC);
+        return nfc.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,138 @@
+package com.factseekerbackend.global.util;
+
+/**
+ * 유튜브 영상 주소/ID를 하나의 키(11자 영상 ID)로 정규화한다.
+ * 캐시, 분산 락, 작업 큐, 중복 요청 방지 키는 모두 이 값을 쓴다.
+ *
+ * <p>지원 형태 (scheme 생략, 대소문자 무관 호스트/경로):
+ * <ul>
+ *   <li>순수 ID: {@code H-D2LfzB1wM}</li>
+ *   <li>{@code (www|m|music).youtube.com/watch?v=ID} (v가 첫 파라미터가 아니어도 됨)</li>
+ *   <li>{@code youtube.com/(shorts|live|embed|v)/ID}, {@code youtube-nocookie.com/embed/ID}</li>
+ *   <li>{@code youtu.be/ID}</li>
+ * </ul>
+ * {@code si}, {@code t}, {@code feature}, {@code list} 같은 나머지 파라미터와 fragment는 버린다.
+ * 정규식이나 중간 문자열 없이 인덱스로만 훑으며, 성공 시 ID 문자열 하나만 만든다.
+ */
+public final class YoutubeVideoKey {
+
+    public static final int ID_LENGTH = 11;
+
+    private static final String WATCH_URL_PREFIX = "https://www.youtube.com/watch?v=";
+    private static final String[] ID_PATH_PREFIXES = {"/shorts/", "/live/", "/embed/", "/v/"};
+
+    private YoutubeVideoKey() {}
+
+    /** 지원하는 형태면 11자 영상 ID를, 아니면 null을 돌려준다. */
+    public static String extractId(String input) {
+        if (input == null) return null;
+        int start = 0;
+        int end = input.length();
+        while (start < end && Character.isWhitespace(input.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(input.charAt(end - 1))) end--;
+
+        if (end - start == ID_LENGTH && isIdAt(input, start)) {
+            return input.substring(start, end);
+        }
+
+        int pos = start;
+        if (input.regionMatches(true, pos, "https://", 0, 8)) pos += 8;
+        else if (input.regionMatches(true, pos, "http://", 0, 7)) pos += 7;
+
+        int hostEnd = pos;
+        while (hostEnd < end) {
+            char c = input.charAt(hostEnd);
+            if (c == '/' || c == '?' || c == '#') break;
+            hostEnd++;
+        }
+
+        if (isHost(input, pos, hostEnd, "youtu.be")) {
+            // youtu.be/ID[?si=...]
+            return idAt(input, hostEnd + 1, end, hostEnd < end && input.charAt(hostEnd) == '/');
+        }
+        if (!isHost(input, pos, hostEnd, "youtube.com") && !isHost(input, pos, hostEnd, "youtube-nocookie.com")) {
+            return null;
+        }
+
+        int pathEnd = hostEnd;
+        while (pathEnd < end && input.charAt(pathEnd) != '?' && input.charAt(pathEnd) != '#') pathEnd++;
+
+        for (String prefix : ID_PATH_PREFIXES) {
+            if (input.regionMatches(true, hostEnd, prefix, 0, prefix.length())) {
+                return idAt(input, hostEnd + prefix.length(), end, true);
+            }
+        }
+
+        int pathLength = pathEnd - hostEnd;
+        boolean watch = (pathLength == 6 || (pathLength == 7 && input.charAt(pathEnd - 1) == '/'))
+                && input.regionMatches(true, hostEnd, "/watch", 0, 6);
+        if (!watch || pathEnd >= end || input.charAt(pathEnd) != '?') return null;
+        return idFromQuery(input, pathEnd + 1, end);
+    }
+
+    /**
+     * 조회 경로용: 정규화할 수 없는 값은 그대로 돌려준다. 없는 키로 조회되어 자연스럽게 404/NOT_FOUND가 된다.
+     */
+    public static String keyOrRaw(String input) {
+        String id = extractId(input);
+        return id != null ? id : input;
+    }
+
+    /** 11자이고 영상 ID 문자([A-Za-z0-9_-])로만 이루어졌는지 */
+    public static boolean isValidId(String id) {
+        return id != null && id.length() == ID_LENGTH && isIdAt(id, 0);
+    }
+
+    /** 정규화된 영상 ID로 저장/전달용 표준 주소를 만든다. */
+    public static String toWatchUrl(String videoId) {
+        return WATCH_URL_PREFIX + videoId;
+    }
+
+    // 쿼리에서 첫 번째 v 파라미터 값을 찾는다
+    private static String idFromQuery(String s, int from, int end) {
+        int i = from;
+        while (i < end && s.charAt(i) != '#') {
+            int paramEnd = i;
+            while (paramEnd < end && s.charAt(paramEnd) != '&' && s.charAt(paramEnd) != '#') paramEnd++;
+            if (paramEnd - i > 2 && s.charAt(i) == 'v' && s.charAt(i + 1) == '=') {
+                return paramEnd - i - 2 == ID_LENGTH && isIdAt(s, i + 2) ? s.substring(i + 2, paramEnd) : null;
+            }
+            i = paramEnd < end && s.charAt(paramEnd) == '&' ? paramEnd + 1 : paramEnd;
+        }
+        return null;
+    }
+
+    // from 위치의 11자가 ID이고 바로 뒤가 끝 또는 구분자('/', '?', '&', '#')일 때만 인정한다
+    private static String idAt(String s, int from, int end, boolean precondition) {
+        if (!precondition || end - from < ID_LENGTH || !isIdAt(s, from)) return null;
+        int after = from + ID_LENGTH;
+        if (after < end) {
+            char c = s.charAt(after);
+            if (c != '/' && c != '?' && c != '&' && c != '#') return null;
+        }
+        return s.substring(from, after);
+    }
+
+    // 호스트가 name, www.name, m.name, music.name 중 하나인지 (포트/사용자 정보가 붙은 형태는 거부)
+    private static boolean isHost(String s, int from, int to, String name) {
+        int len = to - from;
+        if (len == name.length()) return s.regionMatches(true, from, name, 0, len);
+        int sub = len - name.length() - 1;
+        if (sub <= 0 || s.charAt(to - name.length() - 1) != '.'
+                || !s.regionMatches(true, to - name.length(), name, 0, name.length())) {
+            return false;
+        }
+        return (sub == 3 && s.regionMatches(true, from, "www", 0, 3))
+                || (sub == 1 && (s.charAt(from) == 'm' || s.charAt(from) == 'M'))
+                || (sub == 5 && s.regionMatches(true, from, "music", 0, 5));
+    }
+
+    private static boolean isIdAt(String s, int from) {
+        for (int i = from; i < from + ID_LENGTH; i++) {
+            char c = s.charAt(i);
+            boolean ok = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+            if (!ok) return false;
+        }
+        return true;
+    }
+}
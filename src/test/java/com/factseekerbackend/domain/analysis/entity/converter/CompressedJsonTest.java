@@ -0,0 +1,110 @@
+package com.factseekerbackend.domain.analysis.entity.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 저장 포맷(0x00 원문, 0x01 deflate + 사전 v1) 왕복과 컨버터의 null 처리를 확인한다.
+ */
+class CompressedJsonTest {
+
+    private static final String CLAIMS = """
+            [{"claim":"국회는 예산안을 통과시켰다","result":"사실","confidence_score":87,\
+            "evidence":[{"url":"https://www.yna.co.kr/view/AKR20240101","relevance":"높음",\
+            "fact_check_result":"사실","justification":"기사는 예산안 통과 내용을 명확히 언급하고 있으며, 주장을 뒷받침합니다.",\
+            "snippet":"국회는 본회의를 열고 예산안을 의결했다."}]}]""";
+
+    @Test
+    void shortValueIsStoredRaw() {
+        CompressedJson value = CompressedJson.compress("[]");
+
+        assertEquals(CompressedJson.FORMAT_RAW, value.stored()[0]);
+        assertEquals("[]", CompressedJson.fromStored(value.stored()).json());
+    }
+
+    @Test
+    void longValueIsDeflatedWithDictionaryAndRoundTrips() {
+        CompressedJson value = CompressedJson.compress(CLAIMS);
+
+        assertEquals(CompressedJson.FORMAT_DEFLATE_DICT_V1, value.stored()[0]);
+        assertTrue(value.stored().length < CLAIMS.getBytes(StandardCharsets.UTF_8).length);
+        assertEquals(CLAIMS, CompressedJson.fromStored(value.stored()).json());
+    }
+
+    @Test
+    void encoderOutputMatchesCompressedValue() throws Exception {
+        CompressedJson streamed;
+        try (CompressedJson.Encoder encoder = CompressedJson.encoder()) {
+            encoder.write(CLAIMS.getBytes(StandardCharsets.UTF_8));
+            streamed = encoder.finish();
+        }
+
+        assertEquals(CompressedJson.FORMAT_DEFLATE_DICT_V1, streamed.stored()[0]);
+        assertEquals(CLAIMS, CompressedJson.fromStored(streamed.stored()).json());
+    }
+
+    @Test
+    void decodesBytesWrittenWithDictionaryV1() {
+        // 이미 저장된 행과 같은 방식(사전 v1)으로 직접 만든 바이트도 풀려야 한다
+        byte[] utf8 = CLAIMS.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater();
+        deflater.setDictionary(ClaimsDictionary.V1);
+        deflater.setInput(utf8);
+        deflater.finish();
+        byte[] buf = new byte[utf8.length + 64];
+        int length = deflater.deflate(buf);
+        deflater.end();
+
+        byte[] stored = new byte[length + 1];
+        stored[0] = CompressedJson.FORMAT_DEFLATE_DICT_V1;
+        System.arraycopy(buf, 0, stored, 1, length);
+
+        assertEquals(CLAIMS, CompressedJson.fromStored(stored).json());
+    }
+
+    @Test
+    void unknownFormatFailsOnRead() {
+        CompressedJson value = CompressedJson.fromStored(new byte[]{0x7f, '[', ']'});
+
+        assertThrows(IllegalStateException.class, value::json);
+    }
+
+    @Test
+    void truncatedBlobFailsInsteadOfReturningPartialJson() {
+        byte[] stored = CompressedJson.compress(CLAIMS).stored();
+
+        for (int length : new int[]{1, 2, stored.length / 2, stored.length - 1}) {
+            byte[] truncated = Arrays.copyOf(stored, length);
+            assertThrows(IllegalStateException.class, () -> CompressedJson.fromStored(truncated).json());
+        }
+    }
+
+    @Test
+    void nullAndEmptyValues() {
+        assertNull(CompressedJson.compress(null));
+        assertNull(CompressedJson.fromStored(null));
+        assertNull(CompressedJson.fromStored(new byte[0]));
+    }
+
+    @Test
+    void converterPassesNullThroughAndKeepsStoredBytes() {
+        CompressedJsonConverter converter = new CompressedJsonConverter();
+        CompressedJson value = CompressedJson.compress(CLAIMS);
+
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+        assertNull(converter.convertToEntityAttribute(new byte[0]));
+        assertArrayEquals(value.stored(), converter.convertToDatabaseColumn(value));
+        assertEquals(value, converter.convertToEntityAttribute(value.stored()));
+        assertEquals(CLAIMS, converter.convertToEntityAttribute(value.stored()).json());
+    }
+}
@@ -0,0 +1,127 @@
+package com.factseekerbackend.domain.analysis.service.fastapi;
+
+import com.factseekerbackend.domain.analysis.service.fastapi.dto.FactCheckPayload;
+import com.factseekerbackend.global.exception.BusinessException;
+import com.factseekerbackend.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * FastAPI 응답을 여러 청크로 나눠 흘려 보내며 파싱 결과와 형식 오류 처리를 확인한다.
+ */
+class FastApiResponseReaderTest {
+
+    private static final String VALID = """
+            {"video_id":"H-D2LfzB1wM","video_url":"https://www.youtube.com/watch?v=H-D2LfzB1wM",
+             "video_total_confidence_score":72,
+             "claims":[{"claim":"주장","result":"사실","confidence_score":80,
+                        "evidence":[{"url":"https://www.yna.co.kr/view/1","relevance":"높음",
+                                     "fact_check_result":"사실","justification":"근거","snippet":"발췌"}]}],
+             "summary":"요약","channel_type":"언론","channel_type_reason":"이유",
+             "created_at":"2024-05-18T10:15:30","keywords":"국회, 예산","three_line_summary":"세 줄"}""";
+
+    private final FastApiResponseReader reader = new FastApiResponseReader(new ObjectMapper());
+
+    @Test
+    void readsValidPayloadAcrossChunks() {
+        FactCheckPayload payload = read(VALID, 7);
+
+        assertEquals("H-D2LfzB1wM", payload.videoId());
+        assertEquals("https://www.youtube.com/watch?v=H-D2LfzB1wM", payload.videoUrl());
+        assertEquals(72, payload.videoTotalConfidenceScore());
+        assertEquals("요약", payload.summary());
+        assertEquals("언론", payload.channelType());
+        assertEquals("이유", payload.channelTypeReason());
+        assertEquals(LocalDateTime.of(2024, 5, 18, 10, 15, 30), payload.createdAt());
+        assertEquals("국회, 예산", payload.keywords());
+        assertEquals("세 줄", payload.threeLineSummary());
+        assertEquals("[{\"claim\":\"주장\",\"result\":\"사실\",\"confidence_score\":80,"
+                + "\"evidence\":[{\"url\":\"https://www.yna.co.kr/view/1\",\"relevance\":\"높음\","
+                + "\"fact_check_result\":\"사실\",\"justification\":\"근거\",\"snippet\":\"발췌\"}]}]",
+                payload.claims().json());
+    }
+
+    @Test
+    void missingOptionalFieldsAreNullAndMissingClaimsIsEmptyArray() {
+        FactCheckPayload payload = read("{\"video_id\":\"H-D2LfzB1wM\"}", 3);
+
+        assertEquals("H-D2LfzB1wM", payload.videoId());
+        assertNull(payload.summary());
+        assertNull(payload.createdAt());
+        assertNull(payload.videoTotalConfidenceScore());
+        assertEquals("[]", payload.claims().json());
+    }
+
+    @Test
+    void missingVideoIdIsInvalid() {
+        assertInvalid("{\"summary\":\"요약\",\"claims\":[]}");
+    }
+
+    @Test
+    void extraFieldsAreDropped() {
+        FactCheckPayload payload = read("""
+                {"debug":{"trace":[1,{"a":[2]}]},"video_id":"H-D2LfzB1wM",
+                 "claims":[{"claim":"주장","model":{"name":"x"},"evidence":[{"url":"u","score":[0.1]}]}],
+                 "extra":"ignored"}""", 5);
+
+        assertEquals("H-D2LfzB1wM", payload.videoId());
+        assertEquals("[{\"claim\":\"주장\",\"evidence\":[{\"url\":\"u\"}]}]", payload.claims().json());
+    }
+
+    @Test
+    void wrongTypesAreInvalid() {
+        assertInvalid("{\"video_id\":123}");
+        assertInvalid("{\"video_id\":\"H-D2LfzB1wM\",\"video_total_confidence_score\":\"high\"}");
+        assertInvalid("{\"video_id\":\"H-D2LfzB1wM\",\"created_at\":\"yesterday\"}");
+        assertInvalid("{\"video_id\":\"H-D2LfzB1wM\",\"claims\":{}}");
+        assertInvalid("{\"video_id\":\"H-D2LfzB1wM\",\"claims\":[\"주장\"]}");
+        assertInvalid("{\"video_id\":\"H-D2LfzB1wM\",\"claims\":[{\"confidence_score\":\"80\"}]}");
+        assertInvalid("{\"video_id\":\"H-D2LfzB1wM\",\"claims\":[{\"evidence\":{}}]}");
+        assertInvalid("[{\"video_id\":\"H-D2LfzB1wM\"}]");
+    }
+
+    @Test
+    void truncatedStreamIsInvalid() {
+        for (int cut : new int[]{1, VALID.length() / 3, VALID.length() / 2, VALID.length() - 1}) {
+            assertInvalid(VALID.substring(0, cut));
+        }
+    }
+
+    @Test
+    void trailingValueIsInvalid() {
+        assertInvalid("{\"video_id\":\"H-D2LfzB1wM\"} {}");
+    }
+
+    private FactCheckPayload read(String json, int chunkSize) {
+        return reader.read(chunks(json, chunkSize)).block();
+    }
+
+    private void assertInvalid(String json) {
+        BusinessException e = assertThrows(BusinessException.class, () -> read(json, 4), json);
+        assertEquals(ErrorCode.FASTAPI_INVALID_RESPONSE, e.getErrorCode(), json);
+    }
+
+    // 바이트 단위로 잘라 멀티바이트 문자가 청크 경계에 걸리는 경우도 포함한다
+    private static Flux<DataBuffer> chunks(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            byte[] chunk = new byte[Math.min(chunkSize, bytes.length - i)];
+            System.arraycopy(bytes, i, chunk, 0, chunk.length);
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
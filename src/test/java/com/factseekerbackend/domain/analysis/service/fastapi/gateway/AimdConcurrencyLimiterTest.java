@@ -0,0 +1,118 @@
+package com.factseekerbackend.domain.analysis.service.fastapi.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AimdConcurrencyLimiterTest {
+
+    private static final Duration WAIT = Duration.ofMinutes(1);
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(10).toNanos();
+
+    private AimdConcurrencyLimiter limiter(int initial, int maxQueue) {
+        return new AimdConcurrencyLimiter(initial, 1, 10, maxQueue, 0.5, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void grantsUpToLimitThenQueues() {
+        AimdConcurrencyLimiter limiter = limiter(2, 1);
+
+        assertTrue(limiter.acquire(WAIT).join());
+        assertTrue(limiter.acquire(WAIT).join());
+        CompletableFuture<Boolean> queued = limiter.acquire(WAIT);
+        assertFalse(queued.isDone());
+        assertEquals(1, limiter.getQueueDepth());
+
+        // 대기열이 가득 차면 바로 거절
+        assertFalse(limiter.acquire(WAIT).join());
+
+        limiter.onIgnored();
+        assertTrue(queued.join());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(0, limiter.getQueueDepth());
+    }
+
+    @Test
+    void fastSuccessUnderLoadIncreasesLimitAdditively() {
+        AimdConcurrencyLimiter limiter = limiter(2, 0);
+        limiter.acquire(WAIT).join();
+        limiter.acquire(WAIT).join();
+
+        limiter.onSuccess(FAST);
+
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void idleSuccessDoesNotGrowLimit() {
+        AimdConcurrencyLimiter limiter = limiter(4, 0);
+        limiter.acquire(WAIT).join();
+
+        limiter.onSuccess(FAST);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void dropAndSlowSuccessDecreaseLimitMultiplicatively() {
+        AimdConcurrencyLimiter limiter = limiter(8, 0);
+        limiter.acquire(WAIT).join();
+        limiter.onDropped();
+        assertEquals(4, limiter.getLimit());
+
+        limiter.acquire(WAIT).join();
+        limiter.onSuccess(SLOW);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void limitStaysWithinBounds() {
+        AimdConcurrencyLimiter limiter = limiter(1, 0);
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(WAIT).join();
+            limiter.onDropped();
+        }
+        assertEquals(1, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void ignoredReleasesSlotWithoutChangingLimit() {
+        AimdConcurrencyLimiter limiter = limiter(3, 0);
+        limiter.acquire(WAIT).join();
+
+        limiter.onIgnored();
+
+        assertEquals(3, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void cancelledWaiterLeavesQueueAndSlotGoesToNext() {
+        AimdConcurrencyLimiter limiter = limiter(1, 2);
+        limiter.acquire(WAIT).join();
+        CompletableFuture<Boolean> first = limiter.acquire(WAIT);
+        CompletableFuture<Boolean> second = limiter.acquire(WAIT);
+
+        first.cancel(true);
+        assertEquals(1, limiter.getQueueDepth());
+
+        limiter.onIgnored();
+        assertTrue(second.join());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void waiterTimesOutWithFalse() {
+        AimdConcurrencyLimiter limiter = limiter(1, 1);
+        limiter.acquire(WAIT).join();
+
+        assertFalse(limiter.acquire(Duration.ofMillis(10)).join());
+    }
+}
@@ -0,0 +1,87 @@
+package com.factseekerbackend.domain.analysis.service.fastapi.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensWhenFailureRateReachesThresholdAfterMinimumCalls() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, Duration.ofMinutes(1));
+
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        call(breaker, true);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void oldResultsSlideOutOfWindow() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, Duration.ofMinutes(1));
+
+        call(breaker, true);
+        call(breaker, true);
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, true);
+        // 누적 3/6이면 열리지만, 최근 4건 중 실패는 1건(25%)
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void halfOpenAllowsSingleProbe() {
+        CircuitBreaker breaker = openedBreaker();
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void probeSuccessClosesAndProbeFailureReopens() {
+        CircuitBreaker closing = openedBreaker();
+        closing.tryAcquire();
+        closing.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, closing.getState());
+
+        CircuitBreaker reopening = openedBreaker();
+        reopening.tryAcquire();
+        reopening.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, reopening.getState());
+    }
+
+    @Test
+    void ignoredProbeOnlyReturnsSlot() {
+        CircuitBreaker breaker = openedBreaker();
+        breaker.tryAcquire();
+
+        breaker.onIgnored();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    // openDuration 0: 다음 tryAcquire가 바로 HALF_OPEN 시험 호출이 된다
+    private static CircuitBreaker openedBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 1, 0.5, Duration.ZERO);
+        call(breaker, true);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+
+    private static void call(CircuitBreaker breaker, boolean failed) {
+        assertTrue(breaker.tryAcquire());
+        if (failed) breaker.onFailure();
+        else breaker.onSuccess();
+    }
+}
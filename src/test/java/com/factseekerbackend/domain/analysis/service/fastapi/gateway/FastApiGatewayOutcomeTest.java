@@ -0,0 +1,96 @@
+package com.factseekerbackend.domain.analysis.service.fastapi.gateway;
+
+import com.factseekerbackend.global.exception.BusinessException;
+import com.factseekerbackend.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 호출 결과 분류와, 분류별로 한도/서킷에 반영되는 방식을 확인한다.
+ */
+class FastApiGatewayOutcomeTest {
+
+    @Test
+    void classifiesErrors() {
+        assertEquals(FastApiGateway.Outcome.FAILURE, FastApiGateway.outcomeOf(new TimeoutException()));
+        assertEquals(FastApiGateway.Outcome.FAILURE, FastApiGateway.outcomeOf(status(503)));
+        assertEquals(FastApiGateway.Outcome.FAILURE, FastApiGateway.outcomeOf(status(429)));
+        assertEquals(FastApiGateway.Outcome.CLIENT_ERROR, FastApiGateway.outcomeOf(status(400)));
+        assertEquals(FastApiGateway.Outcome.CLIENT_ERROR, FastApiGateway.outcomeOf(status(422)));
+        assertEquals(FastApiGateway.Outcome.INVALID_RESPONSE, FastApiGateway.outcomeOf(
+                new BusinessException(ErrorCode.FASTAPI_INVALID_RESPONSE, "깨진 본문")));
+    }
+
+    @Test
+    void invalidResponseReopensHalfOpenCircuit() {
+        CircuitBreaker breaker = halfOpenBreaker();
+        AimdConcurrencyLimiter limiter = acquiredLimiter();
+
+        FastApiGateway.report(FastApiGateway.Outcome.INVALID_RESPONSE, 0, limiter, breaker);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void clientErrorNeitherClosesCircuitNorCountsAsSuccess() {
+        CircuitBreaker breaker = halfOpenBreaker();
+        AimdConcurrencyLimiter limiter = acquiredLimiter();
+
+        FastApiGateway.report(FastApiGateway.Outcome.CLIENT_ERROR, 0, limiter, breaker);
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void clientErrorsDoNotPushFailuresOutOfWindow() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.75, Duration.ofMinutes(1));
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(4, 1, 10, 0, 0.5, Duration.ofSeconds(1));
+
+        for (int i = 0; i < 3; i++) {
+            breaker.tryAcquire();
+            limiter.acquire(Duration.ZERO).join();
+            FastApiGateway.report(FastApiGateway.Outcome.FAILURE, 0, limiter, breaker);
+        }
+        for (int i = 0; i < 10; i++) {
+            breaker.tryAcquire();
+            limiter.acquire(Duration.ZERO).join();
+            FastApiGateway.report(FastApiGateway.Outcome.CLIENT_ERROR, 0, limiter, breaker);
+        }
+        breaker.tryAcquire();
+        limiter.acquire(Duration.ZERO).join();
+        FastApiGateway.report(FastApiGateway.Outcome.FAILURE, 0, limiter, breaker);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private static WebClientResponseException status(int code) {
+        return WebClientResponseException.create(code, "status " + code, HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+    }
+
+    private static CircuitBreaker halfOpenBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 1, 0.5, Duration.ZERO);
+        breaker.tryAcquire();
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        return breaker;
+    }
+
+    private static AimdConcurrencyLimiter acquiredLimiter() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(4, 1, 10, 0, 0.5, Duration.ofSeconds(1));
+        assertTrue(limiter.acquire(Duration.ZERO).join());
+        return limiter;
+    }
+}
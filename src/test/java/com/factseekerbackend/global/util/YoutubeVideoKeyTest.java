@@ -0,0 +1,115 @@
+package com.factseekerbackend.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 무작위로 만든 영상 ID/주소 형태에 대해 정규화 성질을 확인한다 (시드 고정).
+ */
+class YoutubeVideoKeyTest {
+
+    private static final String ID_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789_-";
+    private static final String[] SCHEMES = {"https://", "http://", "HTTPS://", ""};
+    private static final String[] YOUTUBE_HOSTS = {"youtube.com", "www.youtube.com", "m.youtube.com", "music.youtube.com", "WWW.YouTube.com"};
+    private static final String[] ID_PATHS = {"/shorts/", "/live/", "/embed/", "/v/"};
+    private static final String[] TRACKING = {"si=AbC_dEf-123", "t=42s", "feature=share", "list=PL123", "pp=ygUF", "utm_source=kakao"};
+    private static final int RUNS = 2000;
+
+    private final Random random = new Random(20240518L);
+
+    @Test
+    void everySupportedFormResolvesToSameId() {
+        for (int i = 0; i < RUNS; i++) {
+            String id = randomId();
+            String url = randomUrl(id);
+            assertEquals(id, YoutubeVideoKey.extractId(url), url);
+        }
+    }
+
+    @Test
+    void normalizationIsIdempotent() {
+        for (int i = 0; i < RUNS; i++) {
+            String id = YoutubeVideoKey.extractId(randomUrl(randomId()));
+            assertEquals(id, YoutubeVideoKey.extractId(id));
+            assertEquals(id, YoutubeVideoKey.extractId(YoutubeVideoKey.toWatchUrl(id)));
+        }
+    }
+
+    @Test
+    void rejectsWrongLengthOrAlphabet() {
+        for (int i = 0; i < RUNS; i++) {
+            String id = randomId();
+            String broken = switch (random.nextInt(3)) {
+                case 0 -> id.substring(0, 1 + random.nextInt(YoutubeVideoKey.ID_LENGTH - 1));
+                case 1 -> id + ID_CHARS.charAt(random.nextInt(ID_CHARS.length()));
+                default -> id.substring(0, 5) + "!@ .%/".charAt(random.nextInt(6)) + id.substring(6);
+            };
+            assertNull(YoutubeVideoKey.extractId(broken), broken);
+            assertNull(YoutubeVideoKey.extractId("https://www.youtube.com/watch?v=" + broken), broken);
+            assertNull(YoutubeVideoKey.extractId("https://youtu.be/" + broken), broken);
+            assertNull(YoutubeVideoKey.extractId("https://www.youtube.com/shorts/" + broken), broken);
+        }
+    }
+
+    @Test
+    void rejectsForeignHostsAndPaths() {
+        String id = randomId();
+        assertNull(YoutubeVideoKey.extractId(null));
+        assertNull(YoutubeVideoKey.extractId(""));
+        assertNull(YoutubeVideoKey.extractId("https://evil.com/watch?v=" + id));
+        assertNull(YoutubeVideoKey.extractId("https://youtube.com.evil.com/watch?v=" + id));
+        assertNull(YoutubeVideoKey.extractId("https://notyoutube.com/watch?v=" + id));
+        assertNull(YoutubeVideoKey.extractId("https://youtube.com@evil.com/watch?v=" + id));
+        assertNull(YoutubeVideoKey.extractId("https://www.youtube.com/results?v=" + id));
+        assertNull(YoutubeVideoKey.extractId("https://www.youtube.com/watch?vv=" + id));
+        assertNull(YoutubeVideoKey.extractId("https://www.youtube.com/watch#v=" + id));
+        assertNull(YoutubeVideoKey.extractId("https://www.youtube.com/channel/" + id));
+    }
+
+    private String randomUrl(String id) {
+        String scheme = pick(SCHEMES);
+        String url = switch (random.nextInt(5)) {
+            case 0 -> id;
+            case 1 -> scheme + pick(YOUTUBE_HOSTS) + "/watch" + (random.nextBoolean() ? "/" : "") + "?" + watchQuery(id);
+            case 2 -> scheme + pick(YOUTUBE_HOSTS) + pick(ID_PATHS) + id + trailing();
+            case 3 -> scheme + (random.nextBoolean() ? "www." : "") + "youtube-nocookie.com/embed/" + id + trailing();
+            default -> scheme + "youtu.be/" + id + trailing();
+        };
+        return random.nextInt(10) == 0 ? "  " + url + "\n" : url;
+    }
+
+    // v 앞뒤에 추적 파라미터를 섞는다
+    private String watchQuery(String id) {
+        StringBuilder q = new StringBuilder();
+        int before = random.nextInt(3);
+        for (int i = 0; i < before; i++) q.append(pick(TRACKING)).append('&');
+        q.append("v=").append(id);
+        int after = random.nextInt(3);
+        for (int i = 0; i < after; i++) q.append('&').append(pick(TRACKING));
+        if (random.nextInt(4) == 0) q.append("#t=10");
+        return q.toString();
+    }
+
+    private String trailing() {
+        return switch (random.nextInt(4)) {
+            case 0 -> "";
+            case 1 -> "?" + pick(TRACKING);
+            case 2 -> "/?" + pick(TRACKING) + "&" + pick(TRACKING);
+            default -> "#" + pick(TRACKING);
+        };
+    }
+
+    private String randomId() {
+        char[] id = new char[YoutubeVideoKey.ID_LENGTH];
+        for (int i = 0; i < id.length; i++) id[i] = ID_CHARS.charAt(random.nextInt(ID_CHARS.length()));
+        return new String(id);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}